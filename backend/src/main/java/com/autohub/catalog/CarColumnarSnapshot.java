@@ -0,0 +1,280 @@
+package com.autohub.catalog;
+
+import com.autohub.dto.car.CarFilter;
+import com.autohub.entity.Car;
+import com.autohub.entity.CarStatus;
+import com.autohub.entity.FuelType;
+import com.autohub.entity.TransmissionType;
+import com.autohub.repository.CarRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Optional column-oriented copy of the fixed-width listing attributes, used to answer
+ * public listing filters without touching the database.
+ *
+ * Each car occupies one slot across parallel primitive arrays (year, price in cents,
+ * transmission and fuel type ordinals, a visibility flag). A filter is a single pass over
+ * those arrays with non-short-circuit comparisons, which the JIT compiles to a tight,
+ * branch-light loop. Only the ids on the requested page leave this class; the rows
+ * themselves are still read from the database, which stays the source of truth. The
+ * slot buffers a scan collects its hits in are pooled, one per core, so a query at a
+ * million cars does not allocate and discard 4 MB.
+ *
+ * Disabled by default ({@code catalog.columnar.enabled}); when disabled nothing is loaded
+ * and {@link #select} always returns {@code null}.
+ */
+@Component
+public class CarColumnarSnapshot {
+
+    private static final Logger logger = LoggerFactory.getLogger(CarColumnarSnapshot.class);
+    private static final int SLOT_BITS = 24;
+    private static final int MAX_SLOTS = 1 << SLOT_BITS;
+    private static final long MAX_SORT_KEY = (1L << (63 - SLOT_BITS)) - 1;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final CarRepository carRepository;
+    private final boolean enabled;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ArrayBlockingQueue<int[]> hitBuffers =
+            new ArrayBlockingQueue<>(Runtime.getRuntime().availableProcessors());
+    private final Map<Long, Integer> slotById = new HashMap<>();
+    private long[] ids = new long[0];
+    private int[] years = new int[0];
+    private long[] priceCents = new long[0];
+    private byte[] transmissions = new byte[0];
+    private byte[] fuelTypes = new byte[0];
+    private boolean[] visible = new boolean[0];
+    private int size;
+    /** True while slot order equals ascending id order, which makes slot a valid tie-breaker. */
+    private boolean idOrdered = true;
+
+    public CarColumnarSnapshot(CarRepository carRepository,
+                               @Value("${catalog.columnar.enabled:false}") boolean enabled) {
+        this.carRepository = carRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        List<CarFacetEntry> rows = new ArrayList<>(carRepository.findAllFacetEntries(CarStatus.AVAILABLE));
+        rows.sort(Comparator.comparing(CarFacetEntry::id));
+        lock.writeLock().lock();
+        try {
+            slotById.clear();
+            size = 0;
+            idOrdered = true;
+            allocate(Math.max(INITIAL_CAPACITY, rows.size()));
+            rows.forEach(row -> write(slotFor(row.id()), row.year(), row.price(), row.transmission(),
+                    row.fuelType(), true));
+            logger.info("Columnar snapshot built over {} cars", size);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void update(Car car) {
+        if (!enabled) {
+            return;
+        }
+        boolean listed = !car.isDeleted() && car.getStatus() == CarStatus.AVAILABLE;
+        lock.writeLock().lock();
+        try {
+            Integer slot = slotById.get(car.getId());
+            if (slot == null && !listed) {
+                return;
+            }
+            write(slot != null ? slot : slotFor(car.getId()), car.getYear(), car.getPrice(),
+                    car.getTransmission(), car.getFuelType(), listed);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of the listed cars matching {@code filter}'s fixed-width predicates, ordered by
+     * {@code sortBy} then id, restricted to {@code offset}..{@code offset + limit}.
+     *
+     * Make and model are not columns here: the caller resolves them (through the trigram
+     * index) into {@code candidates}, or passes {@code null} when neither is set.
+     *
+     * @return {@code null} when the snapshot cannot answer (disabled, unsupported sort key
+     *         or a value outside the packed key range); the caller then queries the database
+     */
+    public ColumnarPage select(CarFilter filter, Set<Long> candidates, String sortBy,
+                               Sort.Direction direction, long offset, int limit) {
+        if (!enabled || !("id".equals(sortBy) || "price".equals(sortBy) || "year".equals(sortBy))) {
+            return null;
+        }
+        int year = filter.year() != null ? filter.year() : -1;
+        long minCents = filter.minPrice() != null ? toCents(filter.minPrice(), RoundingMode.CEILING) : Long.MIN_VALUE;
+        long maxCents = filter.maxPrice() != null ? toCents(filter.maxPrice(), RoundingMode.FLOOR) : Long.MAX_VALUE;
+        int transmission = filter.transmission() != null ? filter.transmission().ordinal() : -1;
+        int fuelType = filter.fuelType() != null ? filter.fuelType().ordinal() : -1;
+
+        lock.readLock().lock();
+        int[] hits = borrowHitBuffer(candidates == null ? size : Math.min(candidates.size(), size));
+        try {
+            int count = 0;
+            if (candidates == null) {
+                for (int i = 0; i < size; i++) {
+                    if (visible[i]
+                            & (year < 0 | years[i] == year)
+                            & priceCents[i] >= minCents & priceCents[i] <= maxCents
+                            & (transmission < 0 | transmissions[i] == transmission)
+                            & (fuelType < 0 | fuelTypes[i] == fuelType)) {
+                        hits[count++] = i;
+                    }
+                }
+            } else {
+                for (Long id : candidates) {
+                    Integer slot = slotById.get(id);
+                    if (slot == null) {
+                        continue;
+                    }
+                    int i = slot;
+                    if (visible[i]
+                            & (year < 0 | years[i] == year)
+                            & priceCents[i] >= minCents & priceCents[i] <= maxCents
+                            & (transmission < 0 | transmissions[i] == transmission)
+                            & (fuelType < 0 | fuelTypes[i] == fuelType)) {
+                        hits[count++] = i;
+                    }
+                }
+            }
+            long[] ordered = order(hits, count, sortBy, candidates == null);
+            if (ordered == null) {
+                return null;
+            }
+            return new ColumnarPage(page(ordered, direction, offset, limit), count);
+        } finally {
+            hitBuffers.offer(hits);
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * A pooled buffer of at least {@code length} slots, or a new one when the pool is empty
+     * or its buffer predates the last growth. Returned buffers beyond the pool size are
+     * dropped.
+     */
+    private int[] borrowHitBuffer(int length) {
+        int[] buffer = hitBuffers.poll();
+        return buffer != null && buffer.length >= length ? buffer : new int[Math.max(length, ids.length)];
+    }
+
+    /**
+     * Matching ids in ascending (key, id) order. Keys are packed above the slot number so a
+     * single primitive sort does the work; when slot order no longer follows id order, runs
+     * of equal keys are re-sorted by id. {@code inSlotOrder} says whether {@code hits} came
+     * from the full scan (already in slot order) or from a candidate set.
+     */
+    private long[] order(int[] hits, int count, String sortBy, boolean inSlotOrder) {
+        long[] result = new long[count];
+        if ("id".equals(sortBy)) {
+            for (int i = 0; i < count; i++) {
+                result[i] = ids[hits[i]];
+            }
+            if (!idOrdered || !inSlotOrder) {
+                Arrays.sort(result);
+            }
+            return result;
+        }
+
+        long[] packed = new long[count];
+        for (int i = 0; i < count; i++) {
+            int slot = hits[i];
+            long key = "price".equals(sortBy) ? priceCents[slot] : years[slot];
+            if (key < 0 || key > MAX_SORT_KEY) {
+                return null;
+            }
+            packed[i] = (key << SLOT_BITS) | slot;
+        }
+        Arrays.sort(packed);
+        for (int i = 0; i < count; i++) {
+            result[i] = ids[(int) (packed[i] & (MAX_SLOTS - 1))];
+        }
+        if (!idOrdered) {
+            int runStart = 0;
+            for (int i = 1; i <= count; i++) {
+                if (i == count || packed[i] >>> SLOT_BITS != packed[runStart] >>> SLOT_BITS) {
+                    Arrays.sort(result, runStart, i);
+                    runStart = i;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static List<Long> page(long[] ordered, Sort.Direction direction, long offset, int limit) {
+        int from = (int) Math.min(offset, ordered.length);
+        int to = Math.min(from + limit, ordered.length);
+        List<Long> ids = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            ids.add(direction.isDescending() ? ordered[ordered.length - 1 - i] : ordered[i]);
+        }
+        return ids;
+    }
+
+    private int slotFor(Long id) {
+        if (size == MAX_SLOTS) {
+            throw new IllegalStateException("Columnar snapshot is full");
+        }
+        if (size == ids.length) {
+            allocate(ids.length * 2);
+        }
+        if (size > 0 && id < ids[size - 1]) {
+            idOrdered = false;
+        }
+        int slot = size++;
+        ids[slot] = id;
+        slotById.put(id, slot);
+        return slot;
+    }
+
+    private void write(int slot, int year, BigDecimal price, TransmissionType transmission,
+                       FuelType fuelType, boolean listed) {
+        years[slot] = year;
+        priceCents[slot] = price != null ? toCents(price, RoundingMode.HALF_UP) : 0;
+        transmissions[slot] = (byte) (transmission != null ? transmission.ordinal() : -1);
+        fuelTypes[slot] = (byte) (fuelType != null ? fuelType.ordinal() : -1);
+        visible[slot] = listed;
+    }
+
+    private void allocate(int capacity) {
+        capacity = Math.min(capacity, MAX_SLOTS);
+        ids = Arrays.copyOf(ids, capacity);
+        years = Arrays.copyOf(years, capacity);
+        priceCents = Arrays.copyOf(priceCents, capacity);
+        transmissions = Arrays.copyOf(transmissions, capacity);
+        fuelTypes = Arrays.copyOf(fuelTypes, capacity);
+        visible = Arrays.copyOf(visible, capacity);
+    }
+
+    private static long toCents(BigDecimal amount, RoundingMode rounding) {
+        return amount.movePointRight(2).setScale(0, rounding).longValue();
+    }
+}
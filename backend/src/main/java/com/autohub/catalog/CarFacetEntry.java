@@ -0,0 +1,17 @@
+package com.autohub.catalog;
+
+import com.autohub.entity.FuelType;
+import com.autohub.entity.TransmissionType;
+
+import java.math.BigDecimal;
+
+public record CarFacetEntry(
+        Long id,
+        String make,
+        String model,
+        int year,
+        BigDecimal price,
+        TransmissionType transmission,
+        FuelType fuelType
+) {
+}
@@ -0,0 +1,240 @@
+package com.autohub.catalog;
+
+import com.autohub.dto.car.CarFacetsResponse;
+import com.autohub.dto.car.CarFilter;
+import com.autohub.entity.Car;
+import com.autohub.entity.CarStatus;
+import com.autohub.entity.FuelType;
+import com.autohub.entity.TransmissionType;
+import com.autohub.repository.CarRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Facet counts over the publicly listed cars, maintained incrementally.
+ *
+ * Cars are grouped into cells of identical (make, model, fuel type, transmission, year,
+ * price bucket). The number of populated cells follows the variety of the inventory,
+ * not its size, so a facet query walks a few thousand cells however many cars exist.
+ * A price filter counts whole cells for the buckets inside the requested range and looks
+ * at the individual prices only in the (at most two) buckets the range cuts through.
+ */
+@Component
+public class CarFacetIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CarFacetIndex.class);
+
+    private final CarRepository carRepository;
+    private final BigDecimal[] bucketBounds;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<FacetCell, Long> counts = new HashMap<>();
+    private final Map<Long, FacetCell> cellByCar = new HashMap<>();
+    private final List<Map<Long, BigDecimal>> pricesByBucket;
+
+    public CarFacetIndex(CarRepository carRepository,
+                         @Value("${catalog.facets.price-buckets:5000,10000,20000,30000,50000,75000,100000}")
+                         BigDecimal[] bucketBounds) {
+        this.carRepository = carRepository;
+        this.bucketBounds = bucketBounds.clone();
+        Arrays.sort(this.bucketBounds);
+        this.pricesByBucket = new ArrayList<>(this.bucketBounds.length + 1);
+        for (int i = 0; i <= this.bucketBounds.length; i++) {
+            pricesByBucket.add(new HashMap<>());
+        }
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        List<CarFacetEntry> rows = carRepository.findAllFacetEntries(CarStatus.AVAILABLE);
+        lock.writeLock().lock();
+        try {
+            counts.clear();
+            cellByCar.clear();
+            pricesByBucket.forEach(Map::clear);
+            rows.forEach(this::put);
+            logger.info("Facet index built over {} cars in {} cells", cellByCar.size(), counts.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void update(Car car) {
+        lock.writeLock().lock();
+        try {
+            remove(car.getId());
+            if (!car.isDeleted() && car.getStatus() == CarStatus.AVAILABLE) {
+                put(new CarFacetEntry(car.getId(), car.getMake(), car.getModel(), car.getYear(),
+                        car.getPrice(), car.getTransmission(), car.getFuelType()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public CarFacetsResponse facets(CarFilter filter) {
+        String make = normalize(filter.make());
+        String model = normalize(filter.model());
+        Map<String, Boolean> makeMatches = new HashMap<>();
+        Map<String, Boolean> modelMatches = new HashMap<>();
+
+        long total = 0;
+        Map<String, Long> makes = new TreeMap<>();
+        Map<FuelType, Long> fuelTypes = new EnumMap<>(FuelType.class);
+        Map<TransmissionType, Long> transmissions = new EnumMap<>(TransmissionType.class);
+        Map<Integer, Long> years = new TreeMap<>();
+        long[] buckets = new long[bucketBounds.length + 1];
+
+        lock.readLock().lock();
+        try {
+            Map<FacetCell, Long> inPriceRange = filter.minPrice() == null && filter.maxPrice() == null
+                    ? null
+                    : countInPriceRange(filter.minPrice(), filter.maxPrice());
+            for (Map.Entry<FacetCell, Long> entry : counts.entrySet()) {
+                FacetCell cell = entry.getKey();
+                long count = entry.getValue();
+                long priced = inPriceRange == null ? count : inPriceRange.getOrDefault(cell, 0L);
+                if (model != null && !modelMatches.computeIfAbsent(cell.model(), v -> contains(v, model))) {
+                    continue;
+                }
+                boolean makeOk = make == null || makeMatches.computeIfAbsent(cell.make(), v -> contains(v, make));
+                boolean fuelOk = filter.fuelType() == null || filter.fuelType() == cell.fuelType();
+                boolean transmissionOk = filter.transmission() == null || filter.transmission() == cell.transmission();
+                boolean yearOk = filter.year() == null || filter.year() == cell.year();
+                boolean priceOk = priced > 0;
+
+                if (fuelOk && transmissionOk && yearOk && priceOk) {
+                    makes.merge(cell.make(), priced, Long::sum);
+                }
+                if (makeOk && transmissionOk && yearOk && priceOk) {
+                    fuelTypes.merge(cell.fuelType(), priced, Long::sum);
+                }
+                if (makeOk && fuelOk && yearOk && priceOk) {
+                    transmissions.merge(cell.transmission(), priced, Long::sum);
+                }
+                if (makeOk && fuelOk && transmissionOk && priceOk) {
+                    years.merge(cell.year(), priced, Long::sum);
+                }
+                if (makeOk && fuelOk && transmissionOk && yearOk) {
+                    buckets[cell.priceBucket()] += count;
+                }
+                if (makeOk && fuelOk && transmissionOk && yearOk && priceOk) {
+                    total += priced;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<CarFacetsResponse.PriceBucket> priceBuckets = new ArrayList<>(buckets.length);
+        for (int i = 0; i < buckets.length; i++) {
+            priceBuckets.add(new CarFacetsResponse.PriceBucket(bucketMin(i), bucketMax(i), buckets[i]));
+        }
+        return new CarFacetsResponse(total, makes, fuelTypes, transmissions, years, priceBuckets);
+    }
+
+    /**
+     * Cars per cell priced within {@code [minPrice, maxPrice]}, either bound optional.
+     * Buckets inside the range contribute their cell counts as they are; only the cars of
+     * buckets the range cuts through are checked one by one. Called under the read lock.
+     */
+    private Map<FacetCell, Long> countInPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        Map<FacetCell, Long> matched = new HashMap<>();
+        for (Map.Entry<FacetCell, Long> entry : counts.entrySet()) {
+            if (bucketWithin(entry.getKey().priceBucket(), minPrice, maxPrice)) {
+                matched.put(entry.getKey(), entry.getValue());
+            }
+        }
+        for (int bucket = 0; bucket < pricesByBucket.size(); bucket++) {
+            if (bucketWithin(bucket, minPrice, maxPrice) || !bucketOverlaps(bucket, minPrice, maxPrice)) {
+                continue;
+            }
+            for (Map.Entry<Long, BigDecimal> car : pricesByBucket.get(bucket).entrySet()) {
+                BigDecimal price = car.getValue();
+                if ((minPrice == null || price.compareTo(minPrice) >= 0)
+                        && (maxPrice == null || price.compareTo(maxPrice) <= 0)) {
+                    matched.merge(cellByCar.get(car.getKey()), 1L, Long::sum);
+                }
+            }
+        }
+        return matched;
+    }
+
+    private void put(CarFacetEntry entry) {
+        FacetCell cell = cellOf(entry);
+        cellByCar.put(entry.id(), cell);
+        counts.merge(cell, 1L, Long::sum);
+        pricesByBucket.get(cell.priceBucket()).put(entry.id(), entry.price());
+    }
+
+    private void remove(Long id) {
+        FacetCell previous = cellByCar.remove(id);
+        if (previous != null) {
+            counts.computeIfPresent(previous, (cell, count) -> count > 1 ? count - 1 : null);
+            pricesByBucket.get(previous.priceBucket()).remove(id);
+        }
+    }
+
+    private FacetCell cellOf(CarFacetEntry entry) {
+        return new FacetCell(entry.make(), entry.model(), entry.fuelType(), entry.transmission(), entry.year(),
+                bucketOf(entry.price()));
+    }
+
+    private int bucketOf(BigDecimal price) {
+        int bucket = 0;
+        while (bucket < bucketBounds.length && price.compareTo(bucketBounds[bucket]) >= 0) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private BigDecimal bucketMin(int bucket) {
+        return bucket == 0 ? BigDecimal.ZERO : bucketBounds[bucket - 1];
+    }
+
+    private BigDecimal bucketMax(int bucket) {
+        return bucket == bucketBounds.length ? null : bucketBounds[bucket];
+    }
+
+    private boolean bucketOverlaps(int bucket, BigDecimal minPrice, BigDecimal maxPrice) {
+        BigDecimal max = bucketMax(bucket);
+        if (minPrice != null && max != null && max.compareTo(minPrice) <= 0) {
+            return false;
+        }
+        return maxPrice == null || bucketMin(bucket).compareTo(maxPrice) <= 0;
+    }
+
+    /**
+     * Whether every price in {@code [bucketMin, bucketMax)} lies within the requested range.
+     */
+    private boolean bucketWithin(int bucket, BigDecimal minPrice, BigDecimal maxPrice) {
+        BigDecimal max = bucketMax(bucket);
+        return (minPrice == null || minPrice.compareTo(bucketMin(bucket)) <= 0)
+                && (maxPrice == null || (max != null && max.compareTo(maxPrice) <= 0));
+    }
+
+    private static boolean contains(String value, String fragment) {
+        return value.toLowerCase(Locale.ROOT).contains(fragment);
+    }
+
+    private static String normalize(String fragment) {
+        return fragment == null || fragment.isBlank() ? null : fragment.toLowerCase(Locale.ROOT);
+    }
+
+    private record FacetCell(String make, String model, FuelType fuelType, TransmissionType transmission,
+                             int year, int priceBucket) {
+    }
+}
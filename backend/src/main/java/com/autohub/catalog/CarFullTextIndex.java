@@ -0,0 +1,187 @@
+package com.autohub.catalog;
+
+import com.autohub.entity.Car;
+import com.autohub.entity.CarStatus;
+import com.autohub.repository.CarRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Embedded inverted index over make, model and description of the publicly listed cars,
+ * ranked with Okapi BM25.
+ *
+ * Text is lower-cased, split on anything that is not a letter or digit, stripped of
+ * stop words and reduced with a light suffix stemmer ("families" and "family" meet).
+ * Make and model terms count double so "toyota hybrid" ranks a Toyota above a car that
+ * only mentions Toyota in its description.
+ */
+@Component
+public class CarFullTextIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CarFullTextIndex.class);
+    private static final Pattern SPLIT = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "in", "is", "it",
+            "its", "of", "on", "or", "that", "the", "this", "to", "with");
+    private static final int TITLE_WEIGHT = 2;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private final CarRepository carRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    private final Map<Long, Map<String, Integer>> termsByDoc = new HashMap<>();
+    private final Map<Long, Integer> docLengths = new HashMap<>();
+    private long totalLength;
+
+    public CarFullTextIndex(CarRepository carRepository) {
+        this.carRepository = carRepository;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        List<CarSearchDocument> documents = carRepository.findAllSearchDocuments(CarStatus.AVAILABLE);
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByDoc.clear();
+            docLengths.clear();
+            totalLength = 0;
+            documents.forEach(this::put);
+            logger.info("Full-text index built over {} cars ({} terms)", docLengths.size(), postings.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void update(Car car) {
+        lock.writeLock().lock();
+        try {
+            remove(car.getId());
+            if (!car.isDeleted() && car.getStatus() == CarStatus.AVAILABLE) {
+                put(new CarSearchDocument(car.getId(), car.getMake(), car.getModel(), car.getDescription()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Matching car ids, best match first; ties go to the lower id.
+     */
+    public List<Long> search(String query) {
+        Set<String> queryTerms = new LinkedHashSet<>(analyze(query));
+        if (queryTerms.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            int docCount = docLengths.size();
+            if (docCount == 0) {
+                return List.of();
+            }
+            double averageLength = (double) totalLength / docCount;
+            for (String term : queryTerms) {
+                Map<Long, Integer> docs = postings.get(term);
+                if (docs == null) {
+                    continue;
+                }
+                double idf = Math.log(1 + (docCount - docs.size() + 0.5) / (docs.size() + 0.5));
+                for (Map.Entry<Long, Integer> posting : docs.entrySet()) {
+                    double tf = posting.getValue();
+                    double norm = K1 * (1 - B + B * docLengths.get(posting.getKey()) / averageLength);
+                    scores.merge(posting.getKey(), idf * tf * (K1 + 1) / (tf + norm), Double::sum);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Map.Entry<Long, Double>> ranked = new ArrayList<>(scores.entrySet());
+        ranked.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder())
+                .thenComparing(Map.Entry.comparingByKey()));
+        return ranked.stream().map(Map.Entry::getKey).toList();
+    }
+
+    private void put(CarSearchDocument document) {
+        Map<String, Integer> terms = new HashMap<>();
+        int length = 0;
+        for (String term : analyze(document.make() + " " + document.model())) {
+            terms.merge(term, TITLE_WEIGHT, Integer::sum);
+            length += TITLE_WEIGHT;
+        }
+        for (String term : analyze(document.description())) {
+            terms.merge(term, 1, Integer::sum);
+            length++;
+        }
+        terms.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(document.id(), tf));
+        termsByDoc.put(document.id(), terms);
+        docLengths.put(document.id(), length);
+        totalLength += length;
+    }
+
+    private void remove(Long id) {
+        Map<String, Integer> terms = termsByDoc.remove(id);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms.keySet()) {
+            Map<Long, Integer> docs = postings.get(term);
+            docs.remove(id);
+            if (docs.isEmpty()) {
+                postings.remove(term);
+            }
+        }
+        totalLength -= docLengths.remove(id);
+    }
+
+    static List<String> analyze(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        for (String token : SPLIT.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty() && !STOP_WORDS.contains(token)) {
+                terms.add(stem(token));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Light English suffix stripping (plurals, -ed, -ing). Applied identically to documents
+     * and queries, so it only has to be consistent, not linguistically exact.
+     */
+    static String stem(String token) {
+        if (token.length() <= 3 || !Character.isLetter(token.charAt(0))) {
+            return token;
+        }
+        String stem = token;
+        if (stem.endsWith("sses")) {
+            stem = stem.substring(0, stem.length() - 2);
+        } else if (stem.endsWith("ies")) {
+            stem = stem.substring(0, stem.length() - 3) + "y";
+        } else if (stem.endsWith("s") && !stem.endsWith("ss") && !stem.endsWith("us") && !stem.endsWith("is")) {
+            stem = stem.substring(0, stem.length() - 1);
+        }
+        if (stem.endsWith("ing") && stem.length() > 5) {
+            stem = stem.substring(0, stem.length() - 3);
+        } else if (stem.endsWith("ed") && stem.length() > 4) {
+            stem = stem.substring(0, stem.length() - 2);
+        }
+        return stem;
+    }
+}
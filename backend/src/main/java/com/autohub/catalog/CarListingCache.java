@@ -0,0 +1,62 @@
+package com.autohub.catalog;
+
+import com.autohub.dto.PagedResponse;
+import com.autohub.dto.car.CarFilter;
+import com.autohub.dto.car.CarResponse;
+import com.autohub.repository.CarSpecifications;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Result cache for offset pages of the public listing, keyed by the normalized filter,
+ * page, size, sort and the {@link CatalogVersion} at lookup time. A car write bumps the
+ * version, so stale pages are never served and simply age out.
+ *
+ * Loads are single-flight: identical requests arriving together, e.g. right after a
+ * version bump, wait for one query instead of each running their own.
+ */
+@Component
+public class CarListingCache {
+
+    private final Cache<ListingKey, PagedResponse<CarResponse>> cache;
+    private final CatalogVersion catalogVersion;
+
+    public CarListingCache(CatalogVersion catalogVersion,
+                           MeterRegistry meterRegistry,
+                           @Value("${catalog.listing-cache.maximum-size:500}") long maximumSize,
+                           @Value("${catalog.listing-cache.ttl:5m}") Duration ttl) {
+        this.catalogVersion = catalogVersion;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "carListings");
+    }
+
+    /**
+     * Cached page for the request. {@code filter} must already be {@link CarFilter#normalized()};
+     * unknown sort keys are rejected rather than cached.
+     */
+    public PagedResponse<CarResponse> get(CarFilter filter, int page, int size, String sortBy,
+                                          Sort.Direction direction, Supplier<PagedResponse<CarResponse>> loader) {
+        if (!CarSpecifications.SORTABLE_KEYS.contains(sortBy)) {
+            throw new IllegalArgumentException("Unsupported sort: " + sortBy);
+        }
+        // Read the version before loading: a page built from older data can only land under an older key
+        ListingKey key = new ListingKey(catalogVersion.current(), filter, page, size, sortBy, direction);
+        return cache.get(key, k -> loader.get());
+    }
+
+    private record ListingKey(long version, CarFilter filter, int page, int size, String sortBy,
+                              Sort.Direction direction) {
+    }
+}
@@ -0,0 +1,51 @@
+package com.autohub.catalog;
+
+import com.autohub.dto.car.CarResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of single-car responses, bounded by size and age. Entries are
+ * dropped by {@link com.autohub.event.CarChangedListener} once a write to the car
+ * commits. Hit, miss and eviction counts are published as {@code cache.*} metrics
+ * tagged {@code cache=carResponses}.
+ */
+@Component
+public class CarResponseCache {
+
+    private final Cache<Long, CarResponse> cache;
+
+    public CarResponseCache(MeterRegistry meterRegistry,
+                            @Value("${catalog.car-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${catalog.car-cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "carResponses");
+    }
+
+    /**
+     * Cached response for {@code id}. Concurrent misses for the same id share one load,
+     * and an invalidation arriving mid-load waits for it and then removes its result.
+     */
+    public CarResponse get(Long id, Function<Long, CarResponse> loader) {
+        return cache.get(id, loader);
+    }
+
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
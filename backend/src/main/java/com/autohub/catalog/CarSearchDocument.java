@@ -0,0 +1,4 @@
+package com.autohub.catalog;
+
+public record CarSearchDocument(Long id, String make, String model, String description) {
+}
@@ -0,0 +1,4 @@
+package com.autohub.catalog;
+
+public record CarTextEntry(Long id, String make, String model) {
+}
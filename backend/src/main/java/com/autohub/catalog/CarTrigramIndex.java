@@ -0,0 +1,196 @@
+package com.autohub.catalog;
+
+import com.autohub.entity.Car;
+import com.autohub.repository.CarRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Trigram index answering the case-insensitive "contains" filters on make and model
+ * without a LIKE '%x%' table scan.
+ *
+ * Makes and models repeat heavily across the inventory, so trigrams point at distinct
+ * values and each value holds the ids of the non-deleted cars carrying it. A lookup
+ * intersects the trigram postings of the fragment, verifies the surviving values with
+ * {@link String#contains} and unions their ids.
+ */
+@Component
+public class CarTrigramIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(CarTrigramIndex.class);
+    private static final int GRAM = 3;
+
+    private final CarRepository carRepository;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ValueIndex makes = new ValueIndex();
+    private final ValueIndex models = new ValueIndex();
+    private final Map<Long, CarTextEntry> entries = new HashMap<>();
+
+    public CarTrigramIndex(CarRepository carRepository) {
+        this.carRepository = carRepository;
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        List<CarTextEntry> rows = carRepository.findAllTextEntries();
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            makes.clear();
+            models.clear();
+            rows.forEach(this::put);
+            logger.info("Trigram index built over {} cars ({} makes, {} models)",
+                    entries.size(), makes.size(), models.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void update(Car car) {
+        lock.writeLock().lock();
+        try {
+            remove(car.getId());
+            if (!car.isDeleted()) {
+                put(new CarTextEntry(car.getId(), car.getMake(), car.getModel()));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids of non-deleted cars whose make and model contain the given fragments,
+     * or {@code null} when neither fragment is set.
+     */
+    public Set<Long> search(String make, String model) {
+        boolean byMake = make != null && !make.isBlank();
+        boolean byModel = model != null && !model.isBlank();
+        if (!byMake && !byModel) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            Set<Long> ids = byMake ? makes.idsContaining(normalize(make)) : null;
+            if (byModel) {
+                Set<Long> modelIds = models.idsContaining(normalize(model));
+                if (ids == null) {
+                    ids = modelIds;
+                } else {
+                    ids.retainAll(modelIds);
+                }
+            }
+            return ids;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void put(CarTextEntry entry) {
+        CarTextEntry normalized = new CarTextEntry(entry.id(), normalize(entry.make()), normalize(entry.model()));
+        entries.put(entry.id(), normalized);
+        makes.add(normalized.make(), entry.id());
+        models.add(normalized.model(), entry.id());
+    }
+
+    private void remove(Long id) {
+        CarTextEntry previous = entries.remove(id);
+        if (previous != null) {
+            makes.remove(previous.make(), id);
+            models.remove(previous.model(), id);
+        }
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> grams(String value) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= value.length(); i++) {
+            grams.add(value.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static final class ValueIndex {
+
+        private final Map<String, Set<String>> valuesByGram = new HashMap<>();
+        private final Map<String, Set<Long>> idsByValue = new HashMap<>();
+
+        void add(String value, Long id) {
+            idsByValue.computeIfAbsent(value, v -> {
+                for (String gram : grams(v)) {
+                    valuesByGram.computeIfAbsent(gram, g -> new HashSet<>()).add(v);
+                }
+                return new HashSet<>();
+            }).add(id);
+        }
+
+        void remove(String value, Long id) {
+            Set<Long> ids = idsByValue.get(value);
+            if (ids == null || !ids.remove(id) || !ids.isEmpty()) {
+                return;
+            }
+            idsByValue.remove(value);
+            for (String gram : grams(value)) {
+                Set<String> values = valuesByGram.get(gram);
+                if (values != null && values.remove(value) && values.isEmpty()) {
+                    valuesByGram.remove(gram);
+                }
+            }
+        }
+
+        Set<Long> idsContaining(String fragment) {
+            Set<Long> ids = new HashSet<>();
+            for (String value : candidates(fragment)) {
+                if (value.contains(fragment)) {
+                    ids.addAll(idsByValue.get(value));
+                }
+            }
+            return ids;
+        }
+
+        private Collection<String> candidates(String fragment) {
+            if (fragment.length() < GRAM) {
+                // Too short to have a trigram; the distinct-value dictionary is small enough to scan
+                return idsByValue.keySet();
+            }
+            List<Set<String>> postings = new ArrayList<>();
+            for (String gram : grams(fragment)) {
+                Set<String> values = valuesByGram.get(gram);
+                if (values == null) {
+                    return Set.of();
+                }
+                postings.add(values);
+            }
+            postings.sort(Comparator.comparingInt(Set::size));
+            Set<String> result = new HashSet<>(postings.get(0));
+            for (int i = 1; i < postings.size() && !result.isEmpty(); i++) {
+                result.retainAll(postings.get(i));
+            }
+            return result;
+        }
+
+        int size() {
+            return idsByValue.size();
+        }
+
+        void clear() {
+            valuesByGram.clear();
+            idsByValue.clear();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.autohub.catalog;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic counter bumped after every committed car write. Derived caches key their
+ * entries by it, so one bump retires everything computed from the older catalog.
+ *
+ * It also stamps each changed car and each user's favorites with the version of their
+ * last change, which yields weak ETags without touching the database. Every tag carries
+ * the startup time, so counters restarting from zero never revalidate an old response.
+ */
+@Component
+public class CatalogVersion {
+
+    private final String epoch = Long.toHexString(System.currentTimeMillis());
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong favoritesVersion = new AtomicLong();
+    private final AtomicLong allCarsVersion = new AtomicLong();
+    private final Map<Long, Long> carVersions = new ConcurrentHashMap<>();
+    private final Map<String, Long> favoritesVersions = new ConcurrentHashMap<>();
+
+    public long current() {
+        return version.get();
+    }
+
+    public long bump() {
+        return version.incrementAndGet();
+    }
+
+    public void bumpCar(Long carId) {
+        carVersions.put(carId, bump());
+    }
+
+    /**
+     * Moves every car's tag at once, for writes too large to stamp car by car.
+     */
+    public void bumpAllCars() {
+        allCarsVersion.set(bump());
+    }
+
+    public void bumpFavorites(String email) {
+        favoritesVersions.put(email, favoritesVersion.incrementAndGet());
+    }
+
+    public String listingETag() {
+        return weakETag("l" + current());
+    }
+
+    public String carETag(Long carId) {
+        return weakETag("c" + Math.max(carVersions.getOrDefault(carId, 0L), allCarsVersion.get()));
+    }
+
+    /**
+     * Favorites embed car details, so their tag moves with the whole catalog as well.
+     */
+    public String favoritesETag(String email) {
+        return weakETag("f" + favoritesVersions.getOrDefault(email, 0L) + "-" + current());
+    }
+
+    private String weakETag(String stamp) {
+        return "W/\"" + epoch + "-" + stamp + "\"";
+    }
+}
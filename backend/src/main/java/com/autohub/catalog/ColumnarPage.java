@@ -0,0 +1,10 @@
+package com.autohub.catalog;
+
+import java.util.List;
+
+/**
+ * One page of car ids selected by {@link CarColumnarSnapshot}, in listing order, plus the
+ * total number of matches.
+ */
+public record ColumnarPage(List<Long> ids, long total) {
+}
@@ -0,0 +1,9 @@
+package com.autohub.catalog;
+
+import java.time.LocalDateTime;
+
+public record TestDriveSlot(
+        Long carId,
+        LocalDateTime appointmentDate
+) {
+}
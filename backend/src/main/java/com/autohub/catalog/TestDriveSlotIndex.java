@@ -0,0 +1,193 @@
+package com.autohub.catalog;
+
+import com.autohub.entity.TestDriveStatus;
+import com.autohub.repository.TestDriveRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Booked test drive slots per car, one bit per slot from the start of today through
+ * {@code testdrive.availability.horizon-weeks}. With the default 30-minute slots and
+ * eight weeks that is 42 longs per car with bookings; cars without any take no space.
+ *
+ * Rejected bookings free their slot. The window is re-anchored by a nightly rebuild;
+ * slots outside it are not tracked and callers fall back to the database.
+ */
+@Component
+public class TestDriveSlotIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestDriveSlotIndex.class);
+
+    private final TestDriveRepository testDriveRepository;
+    private final int slotMinutes;
+    private final int slotCount;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, long[]> bookedByCar = new HashMap<>();
+    private LocalDateTime origin = LocalDate.now().atStartOfDay();
+    // Changes arriving while a rebuild reads the table, replayed onto the rebuilt bitmaps
+    private List<SlotChange> pendingDuringRebuild;
+
+    public TestDriveSlotIndex(TestDriveRepository testDriveRepository,
+                              @Value("${testdrive.slot-minutes:30}") int slotMinutes,
+                              @Value("${testdrive.availability.horizon-weeks:8}") int horizonWeeks) {
+        this.testDriveRepository = testDriveRepository;
+        this.slotMinutes = slotMinutes;
+        int slots = (int) (Duration.ofDays(7L * horizonWeeks).toMinutes() / slotMinutes);
+        this.slotCount = (slots + 63) / 64 * 64;
+    }
+
+    @PostConstruct
+    @Scheduled(cron = "${testdrive.availability.rebuild-cron:0 5 0 * * *}")
+    public void rebuild() {
+        LocalDateTime start = LocalDate.now().atStartOfDay();
+        lock.writeLock().lock();
+        try {
+            pendingDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<TestDriveSlot> rows = testDriveRepository.findBookedSlots(
+                start, start.plusMinutes((long) slotCount * slotMinutes), TestDriveStatus.REJECTED);
+        lock.writeLock().lock();
+        try {
+            bookedByCar.clear();
+            origin = start;
+            rows.forEach(row -> apply(row.carId(), row.appointmentDate(), true));
+            pendingDuringRebuild.forEach(change -> apply(change.carId(), change.slot(), change.booked()));
+            pendingDuringRebuild = null;
+            logger.info("Test drive slot index built: {} bookings over {} cars", rows.size(), bookedByCar.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void update(Long carId, LocalDateTime slot, boolean booked) {
+        lock.writeLock().lock();
+        try {
+            apply(carId, slot, booked);
+            if (pendingDuringRebuild != null) {
+                pendingDuringRebuild.add(new SlotChange(carId, slot, booked));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int slotMinutes() {
+        return slotMinutes;
+    }
+
+    /**
+     * Whether {@code time} starts a slot on the {@code testdrive.slot-minutes} grid.
+     */
+    public boolean isSlotStart(LocalDateTime time) {
+        return time.getSecond() == 0 && time.getNano() == 0
+                && (time.getHour() * 60 + time.getMinute()) % slotMinutes == 0;
+    }
+
+    /**
+     * Whether {@code time} falls inside the tracked window, so that {@link #isBooked} is
+     * authoritative for it.
+     */
+    public boolean covers(LocalDateTime time) {
+        lock.readLock().lock();
+        try {
+            return indexOf(time) >= 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether a committed, non-rejected booking holds the slot containing {@code time}.
+     * False outside the tracked window.
+     */
+    public boolean isBooked(Long carId, LocalDateTime time) {
+        lock.readLock().lock();
+        try {
+            int index = indexOf(time);
+            long[] bits = bookedByCar.get(carId);
+            return index >= 0 && bits != null && (bits[index >>> 6] & (1L << index)) != 0;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Starts of the booked slots of {@code carId} in {@code [from, to)}, clipped to the
+     * tracked window.
+     */
+    public List<LocalDateTime> bookedSlots(Long carId, LocalDateTime from, LocalDateTime to) {
+        List<LocalDateTime> slots = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            long[] bits = bookedByCar.get(carId);
+            if (bits == null) {
+                return slots;
+            }
+            int first = (int) Math.max(0, Math.floorDiv(Duration.between(origin, from).toMinutes(), slotMinutes));
+            long last = Math.min(slotCount, Math.ceilDiv(Duration.between(origin, to).toMinutes(), (long) slotMinutes));
+            for (int word = first >>> 6; word < bits.length && (long) word << 6 < last; word++) {
+                long value = bits[word];
+                while (value != 0) {
+                    int index = (word << 6) + Long.numberOfTrailingZeros(value);
+                    value &= value - 1;
+                    if (index >= first && index < last) {
+                        slots.add(origin.plusMinutes((long) index * slotMinutes));
+                    }
+                }
+            }
+            return slots;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * End of the tracked window, exclusive.
+     */
+    public LocalDateTime horizon() {
+        lock.readLock().lock();
+        try {
+            return origin.plusMinutes((long) slotCount * slotMinutes);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Long carId, LocalDateTime slot, boolean booked) {
+        int index = indexOf(slot);
+        if (index < 0) {
+            return;
+        }
+        if (booked) {
+            bookedByCar.computeIfAbsent(carId, id -> new long[slotCount / 64])[index >>> 6] |= 1L << index;
+            return;
+        }
+        long[] bits = bookedByCar.get(carId);
+        if (bits != null) {
+            bits[index >>> 6] &= ~(1L << index);
+        }
+    }
+
+    private int indexOf(LocalDateTime time) {
+        long index = Math.floorDiv(Duration.between(origin, time).toMinutes(), slotMinutes);
+        return index >= 0 && index < slotCount ? (int) index : -1;
+    }
+
+    private record SlotChange(Long carId, LocalDateTime slot, boolean booked) {
+    }
+}
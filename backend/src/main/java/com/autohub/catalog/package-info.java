@@ -0,0 +1,4 @@
+/**
+ * In-memory catalog indexes kept current from car change events.
+ */
+package com.autohub.catalog;
@@ -1,5 +1,6 @@
 package com.autohub.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -21,4 +22,36 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * Fixed pool with a bounded queue for image renditions. A full queue rejects new work
+     * instead of growing, so a burst of uploads cannot exhaust memory with decoded images.
+     */
+    @Bean(name = "imageRenditionExecutor")
+    public ThreadPoolTaskExecutor imageRenditionExecutor(@Value("${storage.renditions.threads:2}") int threads,
+                                                         @Value("${storage.renditions.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-rendition-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Single thread for the one-off jobs started when the application is ready (upload
+     * shard migration, image summary backfill). They run one after another and can take
+     * minutes, so they stay off {@code taskExecutor} and never delay outgoing emails.
+     */
+    @Bean(name = "startupJobExecutor")
+    public ThreadPoolTaskExecutor startupJobExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("startup-job-");
+        executor.initialize();
+        return executor;
+    }
 }
@@ -43,6 +43,7 @@ public class SecurityConfig {
 
                         // Health check endpoint (DB + disk status)
                         .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // 🐛 DEBUG ONLY - Remove in production
                         .requestMatchers("/debug/**").permitAll()
@@ -0,0 +1,71 @@
+package com.autohub.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Drops the original {@code uk_test_drive_car_slot (car_id, appointment_date)} key from
+ * databases created before rejected bookings stopped holding their slot. Hibernate's
+ * schema update only adds the replacement {@code uk_test_drive_car_active_slot}; it never
+ * removes a key it no longer maps, and while the old one is there a freed slot still
+ * fails to book.
+ *
+ * The old key was the only index on {@code car_id}, which its foreign key needs, so
+ * {@code idx_test_drives_car} is created first when the schema update has not done so.
+ * Runs while the context starts, after the schema update and before requests are served;
+ * once the old key is gone it finds nothing to do. Only MySQL databases carry the old key.
+ */
+@Component
+public class TestDriveSlotKeyMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestDriveSlotKeyMigration.class);
+    private static final String TABLE = "test_drives";
+    private static final String OLD_KEY = "uk_test_drive_car_slot";
+    private static final String CAR_INDEX = "idx_test_drives_car";
+
+    private final DataSource dataSource;
+
+    // The EntityManagerFactory is only a dependency: its schema update has to run first
+    public TestDriveSlotKeyMigration(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.dataSource = dataSource;
+    }
+
+    @PostConstruct
+    public void migrate() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!"MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())
+                    || !indexExists(connection, OLD_KEY)) {
+                return;
+            }
+            try (Statement statement = connection.createStatement()) {
+                if (!indexExists(connection, CAR_INDEX)) {
+                    statement.execute("create index " + CAR_INDEX + " on " + TABLE + " (car_id)");
+                }
+                statement.execute("alter table " + TABLE + " drop index " + OLD_KEY);
+            }
+            logger.info("Dropped {} from {}; rejected bookings no longer hold their slot", OLD_KEY, TABLE);
+        }
+    }
+
+    private static boolean indexExists(Connection connection, String name) throws SQLException {
+        try (PreparedStatement query = connection.prepareStatement(
+                "select 1 from information_schema.statistics "
+                        + "where table_schema = database() and table_name = ? and index_name = ?")) {
+            query.setString(1, TABLE);
+            query.setString(2, name);
+            try (ResultSet rows = query.executeQuery()) {
+                return rows.next();
+            }
+        }
+    }
+}
@@ -1,23 +1,31 @@
 package com.autohub.controller;
 
 import com.autohub.dto.ApiResponse;
+import com.autohub.dto.car.CarBulkRequest;
 import com.autohub.dto.car.CarFilter;
+import com.autohub.dto.car.CarImportResult;
 import com.autohub.dto.car.CarRequest;
 import com.autohub.dto.car.CarResponse;
 import com.autohub.dto.car.CarStatusRequest;
 import com.autohub.entity.FuelType;
 import com.autohub.entity.TransmissionType;
 import com.autohub.mapper.CarMapper;
+import com.autohub.service.CarExportService;
+import com.autohub.service.CarImportService;
 import com.autohub.service.CarService;
 import jakarta.validation.Valid;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @RestController
@@ -27,10 +35,15 @@ public class AdminCarController {
 
     private final CarService carService;
     private final CarMapper carMapper;
+    private final CarExportService carExportService;
+    private final CarImportService carImportService;
 
-    public AdminCarController(CarService carService, CarMapper carMapper) {
+    public AdminCarController(CarService carService, CarMapper carMapper, CarExportService carExportService,
+                              CarImportService carImportService) {
         this.carService = carService;
         this.carMapper = carMapper;
+        this.carExportService = carExportService;
+        this.carImportService = carImportService;
     }
 
     @GetMapping
@@ -45,6 +58,49 @@ public class AdminCarController {
         return ResponseEntity.ok(ApiResponse.success("Cars retrieved", carMapper.toResponses(carService.listCarsForAdmin(filter))));
     }
 
+    /**
+     * Streams the whole inventory, deleted cars included, as NDJSON (default) or CSV.
+     * The first rows go out while the query is still running.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportCars(@RequestParam(defaultValue = "ndjson") String format) {
+        if (format.equalsIgnoreCase("csv")) {
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"cars.csv\"")
+                    .body(carExportService::writeCsv);
+        }
+        if (!format.equalsIgnoreCase("ndjson")) {
+            throw new IllegalArgumentException("Unsupported export format: " + format);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"cars.ndjson\"")
+                .body(carExportService::writeNdjson);
+    }
+
+    /**
+     * Imports cars from a raw NDJSON (default) or CSV request body, one {@link CarRequest}
+     * per record. Invalid records are reported in the result and do not stop the import.
+     */
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<CarImportResult>> importCars(@RequestParam(defaultValue = "ndjson") String format,
+                                                                   InputStream body) throws IOException {
+        try {
+            CarImportResult result;
+            if (format.equalsIgnoreCase("csv")) {
+                result = carImportService.importCsv(body);
+            } else if (format.equalsIgnoreCase("ndjson")) {
+                result = carImportService.importNdjson(body);
+            } else {
+                throw new IllegalArgumentException("Unsupported import format: " + format);
+            }
+            return ResponseEntity.ok(ApiResponse.success("Cars imported", result));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.failure(e.getMessage()));
+        }
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<CarResponse>> getCar(@PathVariable Long id) {
         return ResponseEntity.ok(ApiResponse.success("Car retrieved", carMapper.toResponse(carService.getCar(id))));
@@ -66,7 +122,7 @@ public class AdminCarController {
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<ApiResponse<Void>> deleteCar(@PathVariable Long id) throws IOException {
+    public ResponseEntity<ApiResponse<Void>> deleteCar(@PathVariable Long id) {
         carService.deleteCar(id);
         return ResponseEntity.ok(ApiResponse.success("Car deleted", null));
     }
@@ -84,6 +140,33 @@ public class AdminCarController {
                 carMapper.toResponse(carService.updateCarStatus(id, request.status()))));
     }
 
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<ApiResponse<Integer>> updateStatusBulk(@RequestBody @Valid CarBulkRequest request) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("Car status updated", carService.updateCarStatusBulk(request)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.failure(e.getMessage()));
+        }
+    }
+
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<ApiResponse<Integer>> deleteCarsBulk(@RequestBody @Valid CarBulkRequest request) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("Cars deleted", carService.deleteCarsBulk(request)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.failure(e.getMessage()));
+        }
+    }
+
+    @PostMapping("/bulk/restore")
+    public ResponseEntity<ApiResponse<Integer>> restoreCarsBulk(@RequestBody @Valid CarBulkRequest request) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success("Cars restored", carService.restoreCarsBulk(request)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.failure(e.getMessage()));
+        }
+    }
+
     @PostMapping(value = "/{id}/images", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<ApiResponse<CarResponse>> addImages(@PathVariable Long id,
                                                               @RequestPart("images") List<MultipartFile> images,
@@ -101,7 +184,7 @@ public class AdminCarController {
 
     @DeleteMapping("/{carId}/images/{imageId}")
     public ResponseEntity<ApiResponse<Void>> deleteImage(@PathVariable Long carId,
-                                                         @PathVariable Long imageId) throws IOException {
+                                                         @PathVariable Long imageId) {
         carService.removeImage(carId, imageId);
         return ResponseEntity.ok(ApiResponse.success("Image deleted", null));
     }
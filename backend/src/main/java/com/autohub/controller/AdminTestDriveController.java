@@ -1,15 +1,23 @@
 package com.autohub.controller;
 
 import com.autohub.dto.ApiResponse;
+import com.autohub.dto.PagedResponse;
+import com.autohub.dto.testdrive.TestDriveCursor;
+import com.autohub.dto.testdrive.TestDriveQueueFilter;
 import com.autohub.dto.testdrive.TestDriveResponse;
 import com.autohub.dto.testdrive.TestDriveStatusRequest;
+import com.autohub.entity.TestDrive;
+import com.autohub.entity.TestDriveStatus;
 import com.autohub.mapper.TestDriveMapper;
 import com.autohub.service.TestDriveService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -25,10 +33,48 @@ public class AdminTestDriveController {
         this.testDriveMapper = testDriveMapper;
     }
 
+    /**
+     * Booking queue, newest appointment first, in cursor pages: pass the previous page's
+     * {@code nextCursor} to continue. {@code from} and {@code to} are inclusive dates.
+     */
     @GetMapping
-    public ResponseEntity<ApiResponse<List<TestDriveResponse>>> getAllTestDrives() {
-        return ResponseEntity.ok(ApiResponse.success("Test drives retrieved",
-                testDriveMapper.toResponses(testDriveService.getAllTestDrives())));
+    public ResponseEntity<ApiResponse<PagedResponse<TestDriveResponse>>> getTestDriveQueue(
+            @RequestParam(required = false) TestDriveStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Long carId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        try {
+            TestDriveCursor after = cursor == null || cursor.isBlank() ? null : TestDriveCursor.decode(cursor);
+            Slice<TestDrive> slice = testDriveService.getTestDriveQueue(
+                    new TestDriveQueueFilter(status, from, to, carId), after, size);
+            List<TestDrive> testDrives = slice.getContent();
+            String nextCursor = slice.hasNext()
+                    ? TestDriveCursor.after(testDrives.get(testDrives.size() - 1)).encode()
+                    : null;
+            PagedResponse<TestDriveResponse> pagedResponse = new PagedResponse<>(
+                    testDriveMapper.toResponses(testDrives),
+                    0,
+                    slice.getSize(),
+                    -1,
+                    -1,
+                    !slice.hasNext(),
+                    nextCursor);
+            return ResponseEntity.ok(ApiResponse.success("Test drives retrieved", pagedResponse));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.failure(e.getMessage()));
+        }
+    }
+
+    /**
+     * Pending and approved bookings in the whole queue, for the dashboard counter; the
+     * loaded cursor pages only ever hold a prefix of them.
+     */
+    @GetMapping("/active-count")
+    public ResponseEntity<ApiResponse<Long>> getActiveCount() {
+        return ResponseEntity.ok(ApiResponse.success("Active test drives counted",
+                testDriveService.countActiveTestDrives()));
     }
 
     @PatchMapping("/{id}/status")
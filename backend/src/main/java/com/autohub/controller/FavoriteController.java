@@ -1,16 +1,19 @@
 package com.autohub.controller;
 
+import com.autohub.catalog.CatalogVersion;
 import com.autohub.dto.ApiResponse;
 import com.autohub.dto.car.CarResponse;
 import com.autohub.dto.favorite.FavoriteResponse;
 import com.autohub.mapper.CarMapper;
 import com.autohub.mapper.FavoriteMapper;
 import com.autohub.service.FavoriteService;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -22,13 +25,16 @@ public class FavoriteController {
     private final FavoriteService favoriteService;
     private final FavoriteMapper favoriteMapper;
     private final CarMapper carMapper;
+    private final CatalogVersion catalogVersion;
 
     public FavoriteController(FavoriteService favoriteService, 
                               FavoriteMapper favoriteMapper,
-                              CarMapper carMapper) {
+                              CarMapper carMapper,
+                              CatalogVersion catalogVersion) {
         this.favoriteService = favoriteService;
         this.favoriteMapper = favoriteMapper;
         this.carMapper = carMapper;
+        this.catalogVersion = catalogVersion;
     }
 
     @PostMapping("/{carId}")
@@ -40,15 +46,28 @@ public class FavoriteController {
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<FavoriteResponse>>> listFavorites(@AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(ApiResponse.success("Favorites retrieved",
-                favoriteMapper.toResponses(favoriteService.listFavorites(userDetails.getUsername()))));
+    public ResponseEntity<ApiResponse<List<FavoriteResponse>>> listFavorites(@AuthenticationPrincipal UserDetails userDetails,
+                                                                             WebRequest request) {
+        // checkNotModified writes the 304 and the ETag header itself
+        if (request.checkNotModified(catalogVersion.favoritesETag(userDetails.getUsername()))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success("Favorites retrieved",
+                        favoriteMapper.toResponses(favoriteService.listFavorites(userDetails.getUsername()))));
     }
 
     @GetMapping("/with-details")
-    public ResponseEntity<ApiResponse<List<CarResponse>>> listFavoritesWithDetails(@AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(ApiResponse.success("Favorites with details retrieved",
-                carMapper.toResponses(favoriteService.listFavoritesWithDetails(userDetails.getUsername()))));
+    public ResponseEntity<ApiResponse<List<CarResponse>>> listFavoritesWithDetails(@AuthenticationPrincipal UserDetails userDetails,
+                                                                                   WebRequest request) {
+        if (request.checkNotModified(catalogVersion.favoritesETag(userDetails.getUsername()))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success("Favorites with details retrieved",
+                        carMapper.toResponses(favoriteService.listFavoritesWithDetails(userDetails.getUsername()))));
     }
 
     @DeleteMapping("/{carId}")
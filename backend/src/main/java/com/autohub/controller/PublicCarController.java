@@ -2,21 +2,37 @@ package com.autohub.controller;
 
 import com.autohub.dto.ApiResponse;
 import com.autohub.dto.PagedResponse;
+import com.autohub.catalog.CarFacetIndex;
+import com.autohub.catalog.CarListingCache;
+import com.autohub.catalog.CarResponseCache;
+import com.autohub.catalog.CatalogVersion;
+import com.autohub.catalog.TestDriveSlotIndex;
+import com.autohub.dto.car.CarCursor;
+import com.autohub.dto.car.CarFacetsResponse;
 import com.autohub.dto.car.CarFilter;
+import com.autohub.dto.car.CarListingRow;
 import com.autohub.dto.car.CarResponse;
+import com.autohub.dto.testdrive.CarAvailabilityResponse;
 import com.autohub.entity.Car;
 import com.autohub.entity.FuelType;
 import com.autohub.entity.TransmissionType;
 import com.autohub.mapper.CarMapper;
 import com.autohub.service.CarService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -25,10 +41,29 @@ public class PublicCarController {
 
     private final CarService carService;
     private final CarMapper carMapper;
+    private final CarFacetIndex facetIndex;
+    private final CarResponseCache responseCache;
+    private final CarListingCache listingCache;
+    private final CatalogVersion catalogVersion;
+    private final TestDriveSlotIndex slotIndex;
+    private final boolean projectionListing;
 
-    public PublicCarController(CarService carService, CarMapper carMapper) {
+    public PublicCarController(CarService carService,
+                               CarMapper carMapper,
+                               CarFacetIndex facetIndex,
+                               CarResponseCache responseCache,
+                               CarListingCache listingCache,
+                               CatalogVersion catalogVersion,
+                               TestDriveSlotIndex slotIndex,
+                               @Value("${catalog.listing.projection-enabled:true}") boolean projectionListing) {
         this.carService = carService;
         this.carMapper = carMapper;
+        this.facetIndex = facetIndex;
+        this.responseCache = responseCache;
+        this.listingCache = listingCache;
+        this.catalogVersion = catalogVersion;
+        this.slotIndex = slotIndex;
+        this.projectionListing = projectionListing;
     }
 
     @GetMapping
@@ -43,34 +78,153 @@ public class PublicCarController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "12") int size,
             @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "ASC") String sortDir) {
+            @RequestParam(defaultValue = "ASC") String sortDir,
+            @RequestParam(defaultValue = "false") boolean keyset,
+            @RequestParam(required = false) String cursor,
+            WebRequest request) {
 
-        CarFilter filter = new CarFilter(make, model, year, transmission, fuelType, minPrice, maxPrice);
-        Sort sort = sortDir.equalsIgnoreCase("DESC") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
-        Pageable pageable = PageRequest.of(page, size, sort);
+        // checkNotModified writes the 304 and the ETag header itself
+        if (request.checkNotModified(catalogVersion.listingETag())) {
+            return null;
+        }
+
+        CarFilter filter = new CarFilter(make, model, year, transmission, fuelType, minPrice, maxPrice).normalized();
+        Sort.Direction direction = sortDir.equalsIgnoreCase("DESC") ? Sort.Direction.DESC : Sort.Direction.ASC;
 
         try {
-            Page<Car> carPage = carService.listCarsForPublicPaged(filter, pageable);
-            List<CarResponse> carResponses = carMapper.toResponses(carPage.getContent());
+            // Cursor mode: requested explicitly for the first page, implied by a cursor afterwards
+            if (keyset || cursor != null) {
+                return ResponseEntity.ok()
+                        .cacheControl(CacheControl.noCache().cachePublic())
+                        .body(ApiResponse.success("Cars retrieved", listCarsByCursor(filter, sortBy, direction, cursor, size)));
+            }
+
+            PagedResponse<CarResponse> pagedResponse = listingCache.get(filter, page, size, sortBy, direction,
+                    () -> listCarsByOffset(filter, PageRequest.of(page, size, Sort.by(direction, sortBy))));
+
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache().cachePublic())
+                    .body(ApiResponse.success("Cars retrieved", pagedResponse));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.failure(e.getMessage()));
+        } catch (Exception e) {
+            e.printStackTrace();
+            return ResponseEntity.internalServerError()
+                    .body(ApiResponse.failure("Internal Server Error: " + e.getMessage()));
+        }
+    }
 
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<PagedResponse<CarResponse>>> searchCars(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "12") int size) {
+        try {
+            Page<Car> carPage = carService.searchCarsForPublic(q, PageRequest.of(page, size));
             PagedResponse<CarResponse> pagedResponse = new PagedResponse<>(
-                    carResponses,
+                    carMapper.toListingResponsesFromCars(carPage.getContent()),
                     carPage.getNumber(),
                     carPage.getSize(),
                     carPage.getTotalElements(),
                     carPage.getTotalPages(),
                     carPage.isLast());
-
             return ResponseEntity.ok(ApiResponse.success("Cars retrieved", pagedResponse));
-        } catch (Exception e) {
-            e.printStackTrace();
-            return ResponseEntity.internalServerError()
-                    .body(ApiResponse.failure("Internal Server Error: " + e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.failure(e.getMessage()));
         }
     }
 
+    @GetMapping("/facets")
+    public ResponseEntity<ApiResponse<CarFacetsResponse>> getFacets(
+            @RequestParam(required = false) String make,
+            @RequestParam(required = false) String model,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) TransmissionType transmission,
+            @RequestParam(required = false) FuelType fuelType,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice) {
+        CarFilter filter = new CarFilter(make, model, year, transmission, fuelType, minPrice, maxPrice);
+        return ResponseEntity.ok(ApiResponse.success("Facets retrieved", facetIndex.facets(filter)));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<CarResponse>> getCarById(@PathVariable Long id) {
-        return ResponseEntity.ok(ApiResponse.success("Car retrieved", carMapper.toResponse(carService.getCar(id))));
+    public ResponseEntity<ApiResponse<CarResponse>> getCarById(@PathVariable Long id, WebRequest request) {
+        if (request.checkNotModified(catalogVersion.carETag(id))) {
+            return null;
+        }
+        CarResponse car = responseCache.get(id, carId -> carMapper.toResponse(carService.getCar(carId)));
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .body(ApiResponse.success("Car retrieved", car));
+    }
+
+    /**
+     * Booked test drive slots between {@code from} (default today) and {@code to}
+     * (exclusive, default a week later), clipped to the window the slot index tracks.
+     * Served from memory; the booking itself still re-checks.
+     */
+    @GetMapping("/{id}/availability")
+    public ResponseEntity<ApiResponse<CarAvailabilityResponse>> getAvailability(
+            @PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate start = from != null ? from : LocalDate.now();
+        LocalDate end = to != null ? to : start.plusWeeks(1);
+        if (!end.isAfter(start)) {
+            return ResponseEntity.badRequest().body(ApiResponse.failure("'to' must be after 'from'"));
+        }
+        LocalDateTime rangeStart = start.atStartOfDay();
+        LocalDateTime rangeEnd = end.atStartOfDay();
+        if (rangeEnd.isAfter(slotIndex.horizon())) {
+            rangeEnd = slotIndex.horizon();
+        }
+        CarAvailabilityResponse availability = new CarAvailabilityResponse(id, rangeStart, rangeEnd,
+                slotIndex.slotMinutes(), slotIndex.bookedSlots(id, rangeStart, rangeEnd));
+        return ResponseEntity.ok(ApiResponse.success("Availability retrieved", availability));
+    }
+
+    private PagedResponse<CarResponse> listCarsByOffset(CarFilter filter, Pageable pageable) {
+        if (projectionListing) {
+            Page<CarListingRow> rowPage = carService.listCarSummariesForPublicPaged(filter, pageable);
+            return new PagedResponse<>(
+                    carMapper.toListingResponses(rowPage.getContent()),
+                    rowPage.getNumber(),
+                    rowPage.getSize(),
+                    rowPage.getTotalElements(),
+                    rowPage.getTotalPages(),
+                    rowPage.isLast());
+        }
+
+        Page<Car> carPage = carService.listCarsForPublicPaged(filter, pageable);
+        List<CarResponse> carResponses = carMapper.toListingResponsesFromCars(carPage.getContent());
+
+        return new PagedResponse<>(
+                carResponses,
+                carPage.getNumber(),
+                carPage.getSize(),
+                carPage.getTotalElements(),
+                carPage.getTotalPages(),
+                carPage.isLast());
+    }
+
+    private PagedResponse<CarResponse> listCarsByCursor(CarFilter filter, String sortBy, Sort.Direction direction,
+                                                        String cursor, int size) {
+        CarCursor after = cursor == null || cursor.isBlank() ? null : CarCursor.decode(cursor);
+        if (after != null && !after.matches(sortBy, direction)) {
+            throw new IllegalArgumentException("Cursor does not match the requested sort");
+        }
+        Slice<Car> slice = carService.listCarsForPublicKeyset(filter, sortBy, direction, after, size);
+        List<Car> cars = slice.getContent();
+        String nextCursor = slice.hasNext()
+                ? CarCursor.after(cars.get(cars.size() - 1), sortBy, direction).encode()
+                : null;
+        return new PagedResponse<>(
+                carMapper.toListingResponsesFromCars(cars),
+                slice.getNumber(),
+                slice.getSize(),
+                -1,
+                -1,
+                !slice.hasNext(),
+                nextCursor);
     }
 }
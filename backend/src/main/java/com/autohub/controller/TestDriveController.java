@@ -1,19 +1,21 @@
 package com.autohub.controller;
 
 import com.autohub.dto.ApiResponse;
+import com.autohub.dto.PagedResponse;
 import com.autohub.dto.testdrive.TestDriveRequest;
 import com.autohub.dto.testdrive.TestDriveResponse;
+import com.autohub.dto.testdrive.TestDriveScope;
+import com.autohub.entity.TestDrive;
 import com.autohub.mapper.TestDriveMapper;
 import com.autohub.service.TestDriveService;
 import jakarta.validation.Valid;
+import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/test-drives") // ✅ FIXED: Removed duplicate /api prefix
 public class TestDriveController {
@@ -31,17 +33,31 @@ public class TestDriveController {
     public ResponseEntity<ApiResponse<TestDriveResponse>> bookTestDrive(
             @AuthenticationPrincipal UserDetails userDetails,
             @RequestBody @Valid TestDriveRequest request) {
-        TestDriveResponse response = testDriveMapper.toResponse(
-                testDriveService.bookTestDrive(request, userDetails.getUsername()));
-        return ResponseEntity.ok(ApiResponse.success("Test drive booked", response));
+        try {
+            TestDriveResponse response = testDriveMapper.toResponse(
+                    testDriveService.bookTestDrive(request, userDetails.getUsername()));
+            return ResponseEntity.ok(ApiResponse.success("Test drive booked", response));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.failure(e.getMessage()));
+        }
     }
 
     @GetMapping("/my-bookings")
     @PreAuthorize("hasRole('CUSTOMER')")
-    public ResponseEntity<ApiResponse<List<TestDriveResponse>>> getMyBookings(
-            @AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(ApiResponse.success("Your bookings retrieved",
-                testDriveMapper.toResponses(testDriveService.getMyTestDrives(userDetails.getUsername()))));
+    public ResponseEntity<ApiResponse<PagedResponse<TestDriveResponse>>> getMyBookings(
+            @AuthenticationPrincipal UserDetails userDetails,
+            @RequestParam(defaultValue = "ALL") TestDriveScope scope,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size) {
+        Page<TestDrive> bookings = testDriveService.getMyTestDrives(userDetails.getUsername(), scope, page, size);
+        PagedResponse<TestDriveResponse> pagedResponse = new PagedResponse<>(
+                testDriveMapper.toResponses(bookings.getContent()),
+                bookings.getNumber(),
+                bookings.getSize(),
+                bookings.getTotalElements(),
+                bookings.getTotalPages(),
+                bookings.isLast());
+        return ResponseEntity.ok(ApiResponse.success("Your bookings retrieved", pagedResponse));
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,162 @@
+package com.autohub.controller;
+
+import com.autohub.service.FileService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.util.UrlPathHelper;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Serves stored uploads. File names are content hashes (or UUID-prefixed for older
+ * uploads) and never reused for different bytes, so responses are cached for a year as
+ * immutable and carry a strong ETag. Single byte ranges are honoured.
+ *
+ * Bodies go out through Tomcat's sendfile support when the connector offers it, which
+ * hands the file to the kernel without copying it through the JVM; otherwise through
+ * {@link FileChannel#transferTo}.
+ */
+@RestController
+@RequestMapping("/uploads")
+public class UploadController {
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+    // Below this size the per-file setup of sendfile costs more than copying (Tomcat's own default)
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+    // Content-hash names, optionally followed by a rendition key: "<sha-256>.thumb.jpg"
+    private static final Pattern CONTENT_HASH_STEM = Pattern.compile("[0-9a-f]{64}(\\.[a-z0-9]+)?");
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable();
+
+    private final FileService fileService;
+    private final UrlPathHelper urlPathHelper = new UrlPathHelper();
+
+    public UploadController(FileService fileService) {
+        this.fileService = fileService;
+    }
+
+    @RequestMapping(value = "/**", method = {RequestMethod.GET, RequestMethod.HEAD})
+    public void serve(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = locate(request);
+        if (file == null) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        long length = attributes.size();
+        String etag = etagFor(file.getFileName().toString(), attributes);
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE.getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+        response.setContentType(MediaTypeFactory.getMediaType(file.getFileName().toString())
+                .orElse(MediaType.APPLICATION_OCTET_STREAM)
+                .toString());
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (rangeHeader != null && (ifRange == null || ifRange.equals(etag))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            // Several ranges would need a multipart body; answering with the whole file is allowed
+            if (ranges.size() == 1) {
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+        long count = end - start + 1;
+        response.setContentLengthLong(count);
+        if ("HEAD".equals(request.getMethod()) || count == 0) {
+            return;
+        }
+
+        if (count >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                position += channel.transferTo(position, end + 1 - position, out);
+            }
+        }
+    }
+
+    /**
+     * The regular file the request points at, or {@code null} for anything outside the
+     * upload directory, missing, or an in-progress temporary file.
+     */
+    /**
+     * The name itself for content-hash files: a deduplicated upload touches the file's
+     * timestamp, which must not change a tag that promises identical bytes. Older
+     * UUID-prefixed files are never deduplicated onto, so size and mtime stay stable there.
+     */
+    private static String etagFor(String filename, BasicFileAttributes attributes) {
+        int dot = filename.lastIndexOf('.');
+        String stem = dot > 0 ? filename.substring(0, dot) : filename;
+        if (CONTENT_HASH_STEM.matcher(stem).matches()) {
+            return "\"" + stem + "\"";
+        }
+        return "\"" + Long.toHexString(attributes.size()) + "-"
+                + Long.toHexString(attributes.lastModifiedTime().toMillis()) + "\"";
+    }
+
+    private Path locate(HttpServletRequest request) {
+        String path = urlPathHelper.getPathWithinApplication(request);
+        String relative = path.startsWith("/uploads/") ? path.substring("/uploads/".length()) : "";
+        if (relative.isEmpty()) {
+            return null;
+        }
+        Path file;
+        try {
+            file = fileService.resolve(relative);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (file.getFileName().toString().startsWith(".") || !Files.isRegularFile(file)) {
+            return null;
+        }
+        return file;
+    }
+}
@@ -2,12 +2,21 @@ package com.autohub.dto;
 
 import java.util.List;
 
+/**
+ * Page of results. Offset pages carry totals; cursor pages skip the COUNT query,
+ * report {@code -1} for the totals and hand back {@code nextCursor} instead.
+ */
 public record PagedResponse<T>(
         List<T> content,
         int page,
         int size,
         long totalElements,
         int totalPages,
-        boolean last
+        boolean last,
+        String nextCursor
 ) {
+
+    public PagedResponse(List<T> content, int page, int size, long totalElements, int totalPages, boolean last) {
+        this(content, page, size, totalElements, totalPages, last, null);
+    }
 }
@@ -0,0 +1,17 @@
+package com.autohub.dto.car;
+
+import com.autohub.entity.CarStatus;
+import jakarta.validation.Valid;
+
+import java.util.List;
+
+/**
+ * Selects cars for a bulk admin operation either by {@code ids} or by {@code filter}, never
+ * both. {@code status} is only read by the bulk status update.
+ */
+public record CarBulkRequest(
+        List<Long> ids,
+        @Valid CarFilter filter,
+        CarStatus status
+) {
+}
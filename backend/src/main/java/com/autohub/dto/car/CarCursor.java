@@ -0,0 +1,72 @@
+package com.autohub.dto.car;
+
+import com.autohub.entity.Car;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of a cursor page: the active sort key, its value and the
+ * row id as tie-breaker. Travels to clients as an opaque URL-safe token.
+ */
+public record CarCursor(String sortBy, Sort.Direction direction, String value, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static CarCursor after(Car car, String sortBy, Sort.Direction direction) {
+        String value = switch (sortBy) {
+            case "id" -> String.valueOf(car.getId());
+            case "price" -> car.getPrice().toPlainString();
+            case "year" -> String.valueOf(car.getYear());
+            case "createdAt" -> car.getCreatedAt().toString();
+            case "make" -> car.getMake();
+            case "model" -> car.getModel();
+            default -> throw new IllegalArgumentException("Unsupported sort for cursor paging: " + sortBy);
+        };
+        return new CarCursor(sortBy, direction, value, car.getId());
+    }
+
+    public static CarCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            // The value goes last because make/model may contain the separator
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            checkValue(parts[0], parts[3]);
+            return new CarCursor(parts[0], Sort.Direction.fromString(parts[1]), parts[3], Long.valueOf(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    /**
+     * Parses the value the way the seek predicate will, so a tampered token is rejected
+     * here instead of failing inside the query.
+     */
+    private static void checkValue(String sortBy, String value) {
+        switch (sortBy) {
+            case "id" -> Long.parseLong(value);
+            case "price" -> new BigDecimal(value);
+            case "year" -> Integer.parseInt(value);
+            case "createdAt" -> Instant.parse(value);
+            case "make", "model" -> {
+            }
+            default -> throw new IllegalArgumentException("Unsupported sort for cursor paging: " + sortBy);
+        }
+    }
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + direction.name() + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean matches(String sortBy, Sort.Direction direction) {
+        return this.sortBy.equals(sortBy) && this.direction == direction;
+    }
+}
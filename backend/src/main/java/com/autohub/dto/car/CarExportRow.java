@@ -0,0 +1,25 @@
+package com.autohub.dto.car;
+
+import com.autohub.entity.CarStatus;
+import com.autohub.entity.FuelType;
+import com.autohub.entity.TransmissionType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record CarExportRow(
+        Long id,
+        String make,
+        String model,
+        int year,
+        BigDecimal price,
+        TransmissionType transmission,
+        FuelType fuelType,
+        CarStatus status,
+        boolean deleted,
+        String description,
+        String primaryImage,
+        int imageCount,
+        Instant createdAt
+) {
+}
@@ -0,0 +1,28 @@
+package com.autohub.dto.car;
+
+import com.autohub.entity.FuelType;
+import com.autohub.entity.TransmissionType;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Facet counts for the public catalog. Each facet ignores its own filter so the sidebar
+ * can show the alternatives; {@code total} applies every filter.
+ */
+public record CarFacetsResponse(
+        long total,
+        Map<String, Long> makes,
+        Map<FuelType, Long> fuelTypes,
+        Map<TransmissionType, Long> transmissions,
+        Map<Integer, Long> years,
+        List<PriceBucket> priceBuckets
+) {
+
+    /**
+     * Price range {@code [min, max)}; {@code max} is null for the open-ended top bucket.
+     */
+    public record PriceBucket(BigDecimal min, BigDecimal max, long count) {
+    }
+}
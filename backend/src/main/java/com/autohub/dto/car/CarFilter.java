@@ -6,6 +6,7 @@ import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 
 import java.math.BigDecimal;
+import java.util.Locale;
 
 public record CarFilter(
         String make,
@@ -16,4 +17,30 @@ public record CarFilter(
         @DecimalMin(value = "0.0", inclusive = true) BigDecimal minPrice,
         @DecimalMin(value = "0.0", inclusive = true) BigDecimal maxPrice
 ) {
+
+    /**
+     * Canonical form used as a cache key: trimmed lower-case text, blanks dropped,
+     * prices without trailing zeros so 1000 and 1000.00 compare equal.
+     */
+    public CarFilter normalized() {
+        return new CarFilter(normalizeText(make), normalizeText(model), year, transmission, fuelType,
+                normalizePrice(minPrice), normalizePrice(maxPrice));
+    }
+
+    public boolean isEmpty() {
+        return normalizeText(make) == null && normalizeText(model) == null && year == null
+                && transmission == null && fuelType == null && minPrice == null && maxPrice == null;
+    }
+
+    public CarFilter withoutMakeAndModel() {
+        return new CarFilter(null, null, year, transmission, fuelType, minPrice, maxPrice);
+    }
+
+    private static String normalizeText(String value) {
+        return value == null || value.isBlank() ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static BigDecimal normalizePrice(BigDecimal value) {
+        return value == null ? null : value.stripTrailingZeros();
+    }
 }
@@ -2,9 +2,13 @@ package com.autohub.dto.car;
 
 import jakarta.validation.constraints.NotNull;
 
+import java.util.Map;
+
 public record CarImageResponse(
         @NotNull Long id,
         @NotNull String imagePath,
-        @NotNull boolean primaryImage
+        @NotNull boolean primaryImage,
+        // Rendition key (thumb, card, full) to path; empty until generated
+        @NotNull Map<String, String> renditions
 ) {
 }
@@ -0,0 +1,7 @@
+package com.autohub.dto.car;
+
+/**
+ * A rejected import record. {@code row} counts data records from 1, not counting a CSV header.
+ */
+public record CarImportError(long row, String message) {
+}
@@ -0,0 +1,11 @@
+package com.autohub.dto.car;
+
+import java.util.List;
+
+public record CarImportResult(
+        long imported,
+        long failed,
+        List<CarImportError> errors,
+        boolean errorsTruncated
+) {
+}
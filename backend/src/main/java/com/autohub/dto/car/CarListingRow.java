@@ -0,0 +1,26 @@
+package com.autohub.dto.car;
+
+import com.autohub.entity.CarStatus;
+import com.autohub.entity.FuelType;
+import com.autohub.entity.TransmissionType;
+
+import java.math.BigDecimal;
+
+/**
+ * Listing card selected straight from the database: the car's columns plus its primary
+ * image path, without hydrating entities or their image collections.
+ */
+public record CarListingRow(
+        Long id,
+        String make,
+        String model,
+        int year,
+        BigDecimal price,
+        TransmissionType transmission,
+        FuelType fuelType,
+        CarStatus status,
+        String description,
+        String primaryImage,
+        boolean deleted
+) {
+}
@@ -0,0 +1,17 @@
+package com.autohub.dto.testdrive;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Booked test drive slots of one car within {@code [from, to)}; every other slot on the
+ * {@code slotMinutes} grid in that range is free.
+ */
+public record CarAvailabilityResponse(
+        Long carId,
+        LocalDateTime from,
+        LocalDateTime to,
+        int slotMinutes,
+        List<LocalDateTime> bookedSlots
+) {
+}
@@ -0,0 +1,39 @@
+package com.autohub.dto.testdrive;
+
+import com.autohub.entity.TestDrive;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of the last row of an admin queue page in (appointment date, id) descending
+ * order. Travels to clients as an opaque URL-safe token.
+ */
+public record TestDriveCursor(LocalDateTime appointmentDate, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static TestDriveCursor after(TestDrive testDrive) {
+        return new TestDriveCursor(testDrive.getAppointmentDate(), testDrive.getId());
+    }
+
+    public static TestDriveCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new TestDriveCursor(LocalDateTime.parse(parts[0]), Long.valueOf(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+    public String encode() {
+        String raw = appointmentDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
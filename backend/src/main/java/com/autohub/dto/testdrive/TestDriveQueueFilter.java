@@ -0,0 +1,16 @@
+package com.autohub.dto.testdrive;
+
+import com.autohub.entity.TestDriveStatus;
+
+import java.time.LocalDate;
+
+/**
+ * Admin queue filters; {@code null} fields match everything. {@code to} is inclusive.
+ */
+public record TestDriveQueueFilter(
+        TestDriveStatus status,
+        LocalDate from,
+        LocalDate to,
+        Long carId
+) {
+}
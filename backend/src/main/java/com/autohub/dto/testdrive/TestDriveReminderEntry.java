@@ -0,0 +1,10 @@
+package com.autohub.dto.testdrive;
+
+import java.time.LocalDateTime;
+
+public record TestDriveReminderEntry(
+        Long id,
+        LocalDateTime appointmentDate,
+        int reminderStage
+) {
+}
@@ -0,0 +1,10 @@
+package com.autohub.dto.testdrive;
+
+/**
+ * Which part of a customer's bookings to list, relative to now.
+ */
+public enum TestDriveScope {
+    UPCOMING,
+    PAST,
+    ALL
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -16,6 +17,8 @@ import java.util.List;
         @Index(name = "idx_cars_make", columnList = "make"),
         @Index(name = "idx_cars_model", columnList = "model"),
         @Index(name = "idx_cars_price", columnList = "price"),
+        @Index(name = "idx_cars_year", columnList = "year"),
+        @Index(name = "idx_cars_created_at", columnList = "created_at"),
         @Index(name = "idx_cars_status", columnList = "status")
 })
 @Getter
@@ -57,25 +60,50 @@ public class Car {
     @Column(length = 1000)
     private String description;
 
+    // Listing pages touch every car's images; batch them instead of one SELECT per car
     @OneToMany(mappedBy = "car", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 50)
     @JsonManagedReference
     private List<CarImage> images = new ArrayList<>();
 
+    // Denormalized from images so listings never read car_images; maintained by the image methods below
+    @Column(name = "primary_image_path")
+    private String primaryImagePath;
+
+    @Column(name = "image_count", nullable = false)
+    private int imageCount;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt = Instant.now();
 
     public void addImage(CarImage image) {
         images.add(image);
         image.setCar(this);
+        refreshImageSummary();
     }
 
     public void removeImage(CarImage image) {
         images.remove(image);
         image.setCar(null);
+        refreshImageSummary();
     }
 
     public void markPrimaryImage(CarImage image) {
         images.forEach(img -> img.setPrimaryImage(false));
         image.setPrimaryImage(true);
+        refreshImageSummary();
+    }
+
+    /**
+     * The primary image, or the first one when none is flagged.
+     */
+    private void refreshImageSummary() {
+        imageCount = images.size();
+        primaryImagePath = images.stream()
+                .filter(CarImage::isPrimaryImage)
+                .findFirst()
+                .or(() -> images.stream().findFirst())
+                .map(CarImage::getImagePath)
+                .orElse(null);
     }
 }
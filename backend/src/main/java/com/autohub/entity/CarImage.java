@@ -7,7 +7,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "car_images")
+@Table(name = "car_images", indexes = {
+        // Stored files are shared between images with identical content; deletes count references
+        @Index(name = "idx_car_images_path", columnList = "image_path")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -23,6 +26,10 @@ public class CarImage {
     @Column(name = "is_primary", nullable = false)
     private boolean primaryImage;
 
+    // Comma-separated ImageRendition names already generated; null until the pipeline has run
+    @Column(length = 100)
+    private String renditions;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "car_id", nullable = false)
     @JsonBackReference
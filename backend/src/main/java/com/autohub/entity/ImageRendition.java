@@ -0,0 +1,34 @@
+package com.autohub.entity;
+
+import java.util.Locale;
+
+/**
+ * Downscaled JPEG copies generated for every uploaded car image, stored next to the
+ * original as {@code <name>.<rendition>.jpg}.
+ */
+public enum ImageRendition {
+    THUMB(320),
+    CARD(640),
+    FULL(1600);
+
+    private final int maxWidth;
+
+    ImageRendition(int maxWidth) {
+        this.maxWidth = maxWidth;
+    }
+
+    public int maxWidth() {
+        return maxWidth;
+    }
+
+    public String key() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public String pathFor(String imagePath) {
+        int dot = imagePath.lastIndexOf('.');
+        int slash = imagePath.lastIndexOf('/');
+        String stem = dot > slash ? imagePath.substring(0, dot) : imagePath;
+        return stem + "." + key() + ".jpg";
+    }
+}
@@ -10,7 +10,12 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "test_drives", uniqueConstraints = {
-        @UniqueConstraint(name = "uk_test_drive_car_slot", columnNames = {"car_id", "appointment_date"})
+        @UniqueConstraint(name = "uk_test_drive_car_active_slot", columnNames = {"car_id", "active_slot"})
+}, indexes = {
+        @Index(name = "idx_test_drives_car", columnList = "car_id"),
+        @Index(name = "idx_test_drives_user_date", columnList = "user_id, appointment_date"),
+        @Index(name = "idx_test_drives_date", columnList = "appointment_date"),
+        @Index(name = "idx_test_drives_status_date", columnList = "status, appointment_date")
 })
 @Getter
 @Setter
@@ -32,10 +37,21 @@ public class TestDrive {
     @Column(name = "appointment_date", nullable = false)
     private LocalDateTime appointmentDate;
 
+    // appointment_date while the booking holds its slot, NULL once rejected; NULLs never collide
+    // in uk_test_drive_car_active_slot, so a rejected or cancelled slot can be booked again
+    @Column(name = "active_slot", insertable = false, updatable = false,
+            columnDefinition = "datetime(6) generated always as "
+                    + "(case when status = 'REJECTED' then null else appointment_date end)")
+    private LocalDateTime activeSlot;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 30)
     private TestDriveStatus status = TestDriveStatus.PENDING;
 
+    // Number of appointment reminders already sent, see TestDriveReminderScheduler
+    @Column(name = "reminder_stage", nullable = false)
+    private int reminderStage;
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private Instant createdAt = Instant.now();
 }
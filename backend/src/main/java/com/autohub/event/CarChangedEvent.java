@@ -0,0 +1,6 @@
+package com.autohub.event;
+
+import com.autohub.entity.Car;
+
+public record CarChangedEvent(Car car) {
+}
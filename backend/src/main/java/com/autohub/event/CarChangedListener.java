@@ -0,0 +1,93 @@
+package com.autohub.event;
+
+import com.autohub.catalog.CarColumnarSnapshot;
+import com.autohub.catalog.CarFacetIndex;
+import com.autohub.catalog.CarFullTextIndex;
+import com.autohub.catalog.CarResponseCache;
+import com.autohub.catalog.CarTrigramIndex;
+import com.autohub.catalog.CatalogVersion;
+import com.autohub.entity.Car;
+import com.autohub.repository.CarRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Applies committed car writes to the in-memory catalog indexes and caches. Runs after commit so
+ * a rolled-back write never leaks into them.
+ */
+@Component
+public class CarChangedListener {
+
+    private final CarTrigramIndex trigramIndex;
+    private final CarFacetIndex facetIndex;
+    private final CarFullTextIndex fullTextIndex;
+    private final CarColumnarSnapshot columnarSnapshot;
+    private final CarResponseCache responseCache;
+    private final CatalogVersion catalogVersion;
+    private final CarRepository carRepository;
+    private final int reloadChunkSize;
+
+    public CarChangedListener(CarTrigramIndex trigramIndex,
+                              CarFacetIndex facetIndex,
+                              CarFullTextIndex fullTextIndex,
+                              CarColumnarSnapshot columnarSnapshot,
+                              CarResponseCache responseCache,
+                              CatalogVersion catalogVersion,
+                              CarRepository carRepository,
+                              @Value("${catalog.import.batch-size:1000}") int reloadChunkSize) {
+        this.trigramIndex = trigramIndex;
+        this.facetIndex = facetIndex;
+        this.fullTextIndex = fullTextIndex;
+        this.columnarSnapshot = columnarSnapshot;
+        this.responseCache = responseCache;
+        this.catalogVersion = catalogVersion;
+        this.carRepository = carRepository;
+        this.reloadChunkSize = reloadChunkSize;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCarChanged(CarChangedEvent event) {
+        apply(event.car());
+    }
+
+    /**
+     * Bulk writes carry only ids; the committed rows are reloaded in chunks so a large
+     * import never holds every car in memory at once. Writes too large to carry ids
+     * rebuild the indexes from the database instead.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleCarsBulkChanged(CarsBulkChangedEvent event) {
+        if (event.wholeCatalog()) {
+            rebuildAll();
+            return;
+        }
+        List<Long> ids = event.carIds();
+        for (int from = 0; from < ids.size(); from += reloadChunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + reloadChunkSize, ids.size()));
+            carRepository.findAllById(chunk).forEach(this::apply);
+        }
+    }
+
+    private void rebuildAll() {
+        trigramIndex.rebuild();
+        facetIndex.rebuild();
+        fullTextIndex.rebuild();
+        columnarSnapshot.rebuild();
+        responseCache.invalidateAll();
+        catalogVersion.bumpAllCars();
+    }
+
+    private void apply(Car car) {
+        trigramIndex.update(car);
+        facetIndex.update(car);
+        fullTextIndex.update(car);
+        columnarSnapshot.update(car);
+        responseCache.invalidate(car.getId());
+        // Last, so pages cached under the new version see the updated indexes
+        catalogVersion.bumpCar(car.getId());
+    }
+}
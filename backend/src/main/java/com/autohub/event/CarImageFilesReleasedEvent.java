@@ -0,0 +1,9 @@
+package com.autohub.event;
+
+import java.util.List;
+
+/**
+ * Stored image files no longer needed once the publishing transaction commits.
+ */
+public record CarImageFilesReleasedEvent(List<String> imagePaths) {
+}
@@ -0,0 +1,26 @@
+package com.autohub.event;
+
+import com.autohub.service.FileDeletionQueue;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Hands released image files to the deletion worker once the rows that stopped
+ * referencing them are committed. A rollback never queues anything. Files still shared
+ * with other images are kept by the worker.
+ */
+@Component
+public class CarImageFilesReleasedListener {
+
+    private final FileDeletionQueue deletionQueue;
+
+    public CarImageFilesReleasedListener(FileDeletionQueue deletionQueue) {
+        this.deletionQueue = deletionQueue;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleFilesReleased(CarImageFilesReleasedEvent event) {
+        deletionQueue.enqueue(event.imagePaths());
+    }
+}
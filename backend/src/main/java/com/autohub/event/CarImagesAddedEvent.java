@@ -0,0 +1,8 @@
+package com.autohub.event;
+
+import com.autohub.entity.CarImage;
+
+import java.util.List;
+
+public record CarImagesAddedEvent(Long carId, List<CarImage> images) {
+}
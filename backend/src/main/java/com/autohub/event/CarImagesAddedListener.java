@@ -0,0 +1,28 @@
+package com.autohub.event;
+
+import com.autohub.entity.CarImage;
+import com.autohub.service.ImageRenditionService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Queues rendition generation for newly stored images. Runs after commit, when the image
+ * rows exist and have ids.
+ */
+@Component
+public class CarImagesAddedListener {
+
+    private final ImageRenditionService renditionService;
+
+    public CarImagesAddedListener(ImageRenditionService renditionService) {
+        this.renditionService = renditionService;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleImagesAdded(CarImagesAddedEvent event) {
+        for (CarImage image : event.images()) {
+            renditionService.submit(event.carId(), image.getId(), image.getImagePath());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.autohub.event;
+
+import java.util.List;
+
+/**
+ * Many cars written in one transaction by id, without loading them as entities. A
+ * {@code wholeCatalog} event carries no ids and stands for a write too large to track
+ * car by car.
+ */
+public record CarsBulkChangedEvent(List<Long> carIds, boolean wholeCatalog) {
+
+    public CarsBulkChangedEvent(List<Long> carIds) {
+        this(carIds, false);
+    }
+
+    public static CarsBulkChangedEvent wholeCatalog() {
+        return new CarsBulkChangedEvent(List.of(), true);
+    }
+}
@@ -0,0 +1,4 @@
+package com.autohub.event;
+
+public record FavoritesChangedEvent(String email) {
+}
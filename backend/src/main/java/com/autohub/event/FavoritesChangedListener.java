@@ -0,0 +1,21 @@
+package com.autohub.event;
+
+import com.autohub.catalog.CatalogVersion;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+public class FavoritesChangedListener {
+
+    private final CatalogVersion catalogVersion;
+
+    public FavoritesChangedListener(CatalogVersion catalogVersion) {
+        this.catalogVersion = catalogVersion;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleFavoritesChanged(FavoritesChangedEvent event) {
+        catalogVersion.bumpFavorites(event.email());
+    }
+}
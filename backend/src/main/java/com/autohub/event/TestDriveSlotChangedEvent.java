@@ -0,0 +1,6 @@
+package com.autohub.event;
+
+import java.time.LocalDateTime;
+
+public record TestDriveSlotChangedEvent(Long testDriveId, Long carId, LocalDateTime appointmentDate, boolean booked) {
+}
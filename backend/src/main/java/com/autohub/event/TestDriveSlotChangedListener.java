@@ -0,0 +1,31 @@
+package com.autohub.event;
+
+import com.autohub.catalog.TestDriveSlotIndex;
+import com.autohub.service.TestDriveReminderScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Marks committed bookings, cancellations and rejections in the slot index. A freed slot
+ * also drops any pending reminder for the booking.
+ */
+@Component
+public class TestDriveSlotChangedListener {
+
+    private final TestDriveSlotIndex slotIndex;
+    private final TestDriveReminderScheduler reminderScheduler;
+
+    public TestDriveSlotChangedListener(TestDriveSlotIndex slotIndex, TestDriveReminderScheduler reminderScheduler) {
+        this.slotIndex = slotIndex;
+        this.reminderScheduler = reminderScheduler;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSlotChanged(TestDriveSlotChangedEvent event) {
+        slotIndex.update(event.carId(), event.appointmentDate(), event.booked());
+        if (!event.booked()) {
+            reminderScheduler.cancel(event.testDriveId());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.autohub.event;
 import com.autohub.entity.TestDrive;
 import com.autohub.entity.TestDriveStatus;
 import com.autohub.service.TestDriveNotificationService;
+import com.autohub.service.TestDriveReminderScheduler;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
@@ -16,9 +17,12 @@ public class TestDriveStatusChangedListener {
     private static final Logger log = LoggerFactory.getLogger(TestDriveStatusChangedListener.class);
 
     private final TestDriveNotificationService notificationService;
+    private final TestDriveReminderScheduler reminderScheduler;
 
-    public TestDriveStatusChangedListener(TestDriveNotificationService notificationService) {
+    public TestDriveStatusChangedListener(TestDriveNotificationService notificationService,
+                                          TestDriveReminderScheduler reminderScheduler) {
         this.notificationService = notificationService;
+        this.reminderScheduler = reminderScheduler;
     }
 
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
@@ -26,6 +30,7 @@ public class TestDriveStatusChangedListener {
         TestDrive testDrive = event.testDrive();
         log.info("👂 Event received: TestDriveStatusChangedEvent for ID: {} -> New Status: {}", testDrive.getId(),
                 testDrive.getStatus());
+        reminderScheduler.onStatusChanged(testDrive);
 
         if (testDrive.getStatus() == TestDriveStatus.APPROVED
                 || testDrive.getStatus() == TestDriveStatus.REJECTED) {
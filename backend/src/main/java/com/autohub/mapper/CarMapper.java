@@ -1,34 +1,57 @@
 package com.autohub.mapper;
 
 import com.autohub.dto.car.CarImageResponse;
+import com.autohub.dto.car.CarListingRow;
 import com.autohub.dto.car.CarResponse;
 import com.autohub.entity.Car;
 import com.autohub.entity.CarImage;
+import com.autohub.entity.ImageRendition;
+import org.mapstruct.IterableMapping;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Mapper(componentModel = "spring")
 public interface CarMapper {
 
-    @Mapping(target = "primaryImage", expression = "java(resolvePrimaryImage(car.getImages()))")
+    @Mapping(target = "primaryImage", source = "primaryImagePath")
     @Mapping(target = "images", expression = "java(mapImages(car.getImages()))")
     CarResponse toResponse(Car car);
 
+    @Mapping(target = "renditions", expression = "java(mapRenditions(image))")
     CarImageResponse toImageResponse(CarImage image);
 
     List<CarResponse> toResponses(List<Car> cars);
 
-    default String resolvePrimaryImage(List<CarImage> images) {
-        if (images == null || images.isEmpty()) {
-            return null;
+    // Listing cards only show the primary image; the gallery comes from GET /cars/{id}
+    @Mapping(target = "images", expression = "java(java.util.List.of())")
+    CarResponse toListingResponse(CarListingRow row);
+
+    List<CarResponse> toListingResponses(List<CarListingRow> rows);
+
+    // Same card shape from an entity, without touching its lazy image collection
+    @Named("listing")
+    @Mapping(target = "primaryImage", source = "primaryImagePath")
+    @Mapping(target = "images", expression = "java(java.util.List.of())")
+    CarResponse toListingResponse(Car car);
+
+    @IterableMapping(qualifiedByName = "listing")
+    List<CarResponse> toListingResponsesFromCars(List<Car> cars);
+
+    default Map<String, String> mapRenditions(CarImage image) {
+        if (image.getRenditions() == null || image.getRenditions().isBlank()) {
+            return Map.of();
         }
-        return images.stream()
-                .filter(CarImage::isPrimaryImage)
-                .findFirst()
-                .map(CarImage::getImagePath)
-                .orElseGet(() -> images.get(0).getImagePath());
+        Map<String, String> renditions = new LinkedHashMap<>();
+        for (String name : image.getRenditions().split(",")) {
+            ImageRendition rendition = ImageRendition.valueOf(name);
+            renditions.put(rendition.key(), rendition.pathFor(image.getImagePath()));
+        }
+        return renditions;
     }
 
     default List<CarImageResponse> mapImages(List<CarImage> images) {
@@ -1,10 +1,41 @@
 package com.autohub.repository;
 
 import com.autohub.entity.CarImage;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CarImageRepository extends JpaRepository<CarImage, Long> {
     Optional<CarImage> findFirstByCarIdAndPrimaryImageTrue(Long carId);
+
+    long countByImagePath(String imagePath);
+
+    long countByImagePathIn(Collection<String> imagePaths);
+
+    /**
+     * Distinct image paths still in the flat pre-sharding layout, after {@code after}.
+     */
+    @Query("select distinct i.imagePath from CarImage i "
+            + "where i.imagePath not like '%/%' and i.imagePath > :after order by i.imagePath")
+    List<String> findFlatImagePaths(@Param("after") String after, Pageable pageable);
+
+    @Modifying
+    @Query("update CarImage i set i.imagePath = :newPath where i.imagePath = :oldPath")
+    int updateImagePath(@Param("oldPath") String oldPath, @Param("newPath") String newPath);
+
+    /**
+     * Those of {@code paths} at least one image row still points at.
+     */
+    @Query("select distinct i.imagePath from CarImage i where i.imagePath in :paths")
+    List<String> findImagePathsIn(@Param("paths") Collection<String> paths);
+
+    @Modifying
+    @Query("update CarImage i set i.renditions = :renditions where i.id = :id")
+    int updateRenditions(@Param("id") Long id, @Param("renditions") String renditions);
 }
@@ -1,12 +1,73 @@
 package com.autohub.repository;
 
+import com.autohub.catalog.CarFacetEntry;
+import com.autohub.catalog.CarSearchDocument;
+import com.autohub.catalog.CarTextEntry;
+import com.autohub.dto.car.CarExportRow;
 import com.autohub.entity.Car;
 import com.autohub.entity.CarStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.lang.Nullable;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface CarRepository extends JpaRepository<Car, Long>, JpaSpecificationExecutor<Car> {
+public interface CarRepository extends JpaRepository<Car, Long>, JpaSpecificationExecutor<Car>, CarRepositoryCustom {
     Optional<Car> findByIdAndDeletedFalseAndStatus(Long id, CarStatus status);
+
+    // Unpaged listings load cars and images in one joined query
+    @Override
+    @EntityGraph(attributePaths = "images")
+    List<Car> findAll(@Nullable Specification<Car> spec);
+
+    @Query("select new com.autohub.catalog.CarTextEntry(c.id, c.make, c.model) from Car c where c.deleted = false")
+    List<CarTextEntry> findAllTextEntries();
+
+    @Query("select new com.autohub.catalog.CarFacetEntry(c.id, c.make, c.model, c.year, c.price, c.transmission, c.fuelType) "
+            + "from Car c where c.deleted = false and c.status = :status")
+    List<CarFacetEntry> findAllFacetEntries(@Param("status") CarStatus status);
+
+    @Query("select new com.autohub.catalog.CarSearchDocument(c.id, c.make, c.model, c.description) "
+            + "from Car c where c.deleted = false and c.status = :status")
+    List<CarSearchDocument> findAllSearchDocuments(@Param("status") CarStatus status);
+
+    // MySQL Connector/J only streams rows (instead of buffering the whole result) for this fetch size
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("select new com.autohub.dto.car.CarExportRow(c.id, c.make, c.model, c.year, c.price, c.transmission, "
+            + "c.fuelType, c.status, c.deleted, c.description, "
+            + "c.primaryImagePath, c.imageCount, c.createdAt) "
+            + "from Car c order by c.id")
+    Stream<CarExportRow> streamExportRows();
+
+    /**
+     * Cars with images whose denormalized image columns were never filled, after {@code afterId}.
+     */
+    @Query("select c.id from Car c where c.id > :afterId and c.imageCount = 0 "
+            + "and exists (select i.id from CarImage i where i.car = c) order by c.id")
+    List<Long> findIdsMissingImageSummary(@Param("afterId") long afterId, Pageable pageable);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Car c set "
+            + "c.imageCount = (select count(i) from CarImage i where i.car = c), "
+            + "c.primaryImagePath = coalesce("
+            + "(select min(i.imagePath) from CarImage i where i.car = c and i.primaryImage = true), "
+            + "(select i.imagePath from CarImage i where i.id = (select min(f.id) from CarImage f where f.car = c))) "
+            + "where c.id in :ids")
+    int refreshImageSummary(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Car c set c.primaryImagePath = :newPath where c.primaryImagePath = :oldPath")
+    int updatePrimaryImagePath(@Param("oldPath") String oldPath, @Param("newPath") String newPath);
 }
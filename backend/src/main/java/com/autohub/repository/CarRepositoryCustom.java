@@ -0,0 +1,38 @@
+package com.autohub.repository;
+
+import com.autohub.dto.car.CarListingRow;
+import com.autohub.entity.Car;
+import com.autohub.entity.CarStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+public interface CarRepositoryCustom {
+
+    /**
+     * Runs {@code spec} ordered by {@code sort} and returns at most {@code limit} rows,
+     * without the COUNT query that {@code findAll(spec, pageable)} always issues.
+     */
+    List<Car> findKeysetSlice(Specification<Car> spec, Sort sort, int limit);
+
+    /**
+     * Page of {@link CarListingRow} projections for {@code spec}. Skips entity hydration,
+     * dirty-checking snapshots and the car_images table entirely.
+     */
+    Page<CarListingRow> findListingRows(Specification<Car> spec, Pageable pageable);
+
+    /**
+     * Sets {@code status} on every car matching {@code spec} in one UPDATE ... WHERE
+     * statement built from the same predicate.
+     */
+    int updateStatus(Specification<Car> spec, CarStatus status);
+
+    /**
+     * Sets the soft-delete flag on every car matching {@code spec} in one UPDATE ... WHERE
+     * statement built from the same predicate.
+     */
+    int updateDeleted(Specification<Car> spec, boolean deleted);
+}
@@ -0,0 +1,117 @@
+package com.autohub.repository;
+
+import com.autohub.dto.car.CarListingRow;
+import com.autohub.entity.Car;
+import com.autohub.entity.CarStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+
+public class CarRepositoryImpl implements CarRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    public CarRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Car> findKeysetSlice(Specification<Car> spec, Sort sort, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Car> query = cb.createQuery(Car.class);
+        Root<Car> root = query.from(Car.class);
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Page<CarListingRow> findListingRows(Specification<Car> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<CarListingRow> query = cb.createQuery(CarListingRow.class);
+        Root<Car> root = query.from(Car.class);
+
+        query.select(cb.construct(CarListingRow.class,
+                root.get("id"),
+                root.get("make"),
+                root.get("model"),
+                root.get("year"),
+                root.get("price"),
+                root.get("transmission"),
+                root.get("fuelType"),
+                root.get("status"),
+                root.get("description"),
+                root.get("primaryImagePath"),
+                root.get("deleted")));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<CarListingRow> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(typedQuery.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public int updateStatus(Specification<Car> spec, CarStatus status) {
+        return update(spec, "status", status);
+    }
+
+    @Override
+    public int updateDeleted(Specification<Car> spec, boolean deleted) {
+        return update(spec, "deleted", deleted);
+    }
+
+    /**
+     * Specifications here never touch their query argument, so the predicate can be built
+     * against the root of a {@link CriteriaUpdate} without one.
+     */
+    private <T> int update(Specification<Car> spec, String attribute, T value) {
+        entityManager.flush();
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Car> update = cb.createCriteriaUpdate(Car.class);
+        Root<Car> root = update.from(Car.class);
+        update.set(root.<T>get(attribute), value);
+        Predicate predicate = spec.toPredicate(root, null, cb);
+        if (predicate != null) {
+            update.where(predicate);
+        }
+        int updated = entityManager.createQuery(update).executeUpdate();
+        entityManager.clear();
+        return updated;
+    }
+
+    private long count(Specification<Car> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Car> root = query.from(Car.class);
+        query.select(cb.count(root));
+        Predicate predicate = spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+}
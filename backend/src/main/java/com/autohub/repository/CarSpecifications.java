@@ -1,14 +1,29 @@
 package com.autohub.repository;
 
+import com.autohub.dto.car.CarCursor;
 import com.autohub.dto.car.CarFilter;
 import com.autohub.entity.Car;
 import com.autohub.entity.CarStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Set;
 
 public final class CarSpecifications {
 
+    /**
+     * Sort keys accepted by the public listing. All are NOT NULL columns, so a cursor
+     * seek on (key, id) never skips rows.
+     */
+    public static final Set<String> SORTABLE_KEYS = Set.of("id", "price", "year", "createdAt", "make", "model");
+
     private CarSpecifications() {
     }
 
@@ -38,6 +53,10 @@ public final class CarSpecifications {
         return (root, query, cb) -> cb.isFalse(root.get("deleted"));
     }
 
+    public static Specification<Car> deleted() {
+        return (root, query, cb) -> cb.isTrue(root.get("deleted"));
+    }
+
     public static Specification<Car> statusAvailable() {
         return (root, query, cb) -> cb.equal(root.get("status"), CarStatus.AVAILABLE);
     }
@@ -54,6 +73,10 @@ public final class CarSpecifications {
                 : cb.like(cb.lower(root.get("model")), "%" + model.toLowerCase() + "%");
     }
 
+    public static Specification<Car> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> root.get("id").in(ids);
+    }
+
     public static Specification<Car> yearEquals(Integer year) {
         return (root, query, cb) -> year == null
                 ? cb.conjunction()
@@ -86,4 +109,48 @@ public final class CarSpecifications {
             return cb.lessThanOrEqualTo(root.get("price"), maxPrice);
         };
     }
+
+    /**
+     * Keyset ordering: the requested key with {@code id} as tie-breaker, both in the same direction.
+     */
+    public static Sort keysetSort(String sortBy, Sort.Direction direction) {
+        if (!SORTABLE_KEYS.contains(sortBy)) {
+            throw new IllegalArgumentException("Unsupported sort for cursor paging: " + sortBy);
+        }
+        return "id".equals(sortBy)
+                ? Sort.by(direction, "id")
+                : Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+    }
+
+    /**
+     * Seek predicate matching rows strictly after {@code cursor} in {@link #keysetSort} order.
+     */
+    public static Specification<Car> seekAfter(CarCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return cb.conjunction();
+            }
+            boolean descending = cursor.direction().isDescending();
+            return switch (cursor.sortBy()) {
+                case "id" -> descending
+                        ? cb.lessThan(root.get("id"), cursor.id())
+                        : cb.greaterThan(root.get("id"), cursor.id());
+                case "price" -> seek(root, cb, "price", new BigDecimal(cursor.value()), cursor.id(), descending);
+                case "year" -> seek(root, cb, "year", Integer.valueOf(cursor.value()), cursor.id(), descending);
+                case "createdAt" -> seek(root, cb, "createdAt", Instant.parse(cursor.value()), cursor.id(), descending);
+                case "make", "model" -> seek(root, cb, cursor.sortBy(), cursor.value(), cursor.id(), descending);
+                default -> throw new IllegalArgumentException("Unsupported sort for cursor paging: " + cursor.sortBy());
+            };
+        };
+    }
+
+    private static <Y extends Comparable<? super Y>> Predicate seek(Root<Car> root, CriteriaBuilder cb,
+                                                                    String attribute, Y value, Long id,
+                                                                    boolean descending) {
+        Path<Y> key = root.get(attribute);
+        Path<Long> idPath = root.get("id");
+        Predicate pastKey = descending ? cb.lessThan(key, value) : cb.greaterThan(key, value);
+        Predicate pastId = descending ? cb.lessThan(idPath, id) : cb.greaterThan(idPath, id);
+        return cb.or(pastKey, cb.and(cb.equal(key, value), pastId));
+    }
 }
@@ -3,11 +3,16 @@ package com.autohub.repository;
 import com.autohub.entity.Favorite;
 import com.autohub.entity.FavoriteId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
 public interface FavoriteRepository extends JpaRepository<Favorite, FavoriteId> {
     List<Favorite> findAllByUserId(Long userId);
+
+    @Query("select f from Favorite f join fetch f.car c left join fetch c.images where f.user.id = :userId")
+    List<Favorite> findAllWithCarAndImagesByUserId(@Param("userId") Long userId);
     boolean existsByUserIdAndCarId(Long userId, Long carId);
     void deleteByUserIdAndCarId(Long userId, Long carId);
 }
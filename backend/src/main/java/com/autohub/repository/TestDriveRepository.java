@@ -1,11 +1,77 @@
 package com.autohub.repository;
 
+import com.autohub.catalog.TestDriveSlot;
+import com.autohub.dto.testdrive.TestDriveReminderEntry;
 import com.autohub.entity.TestDrive;
 import com.autohub.entity.TestDriveStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
-public interface TestDriveRepository extends JpaRepository<TestDrive, Long> {
+public interface TestDriveRepository extends JpaRepository<TestDrive, Long>, TestDriveRepositoryCustom {
     boolean existsByCarIdAndAppointmentDateAndStatusNot(Long carId, LocalDateTime appointmentDate, TestDriveStatus status);
+
+    // Served by idx_test_drives_status_date
+    long countByStatusIn(Collection<TestDriveStatus> statuses);
+
+    @Query("select new com.autohub.catalog.TestDriveSlot(t.car.id, t.appointmentDate) from TestDrive t "
+            + "where t.appointmentDate >= :from and t.appointmentDate < :to and t.status <> :excluded")
+    List<TestDriveSlot> findBookedSlots(@Param("from") LocalDateTime from,
+                                       @Param("to") LocalDateTime to,
+                                       @Param("excluded") TestDriveStatus excluded);
+
+    /*
+     * A customer's bookings, optionally bounded by appointment time, with the car fetched in
+     * the same query. Served by idx_test_drives_user_date. The customer is not joined: the
+     * caller has already loaded it into the persistence context.
+     */
+
+    @EntityGraph(attributePaths = "car")
+    Page<TestDrive> findByCustomerId(Long customerId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "car")
+    Page<TestDrive> findByCustomerIdAndAppointmentDateGreaterThanEqual(Long customerId, LocalDateTime from,
+                                                                      Pageable pageable);
+
+    @EntityGraph(attributePaths = "car")
+    Page<TestDrive> findByCustomerIdAndAppointmentDateLessThan(Long customerId, LocalDateTime to,
+                                                               Pageable pageable);
+
+    /**
+     * Bookings in {@code status} after {@code from} with fewer than {@code stage}
+     * reminders sent.
+     */
+    @Query("select new com.autohub.dto.testdrive.TestDriveReminderEntry(t.id, t.appointmentDate, t.reminderStage) "
+            + "from TestDrive t where t.status = :status and t.appointmentDate > :from and t.reminderStage < :stage")
+    List<TestDriveReminderEntry> findReminderEntries(@Param("status") TestDriveStatus status,
+                                                     @Param("from") LocalDateTime from,
+                                                     @Param("stage") int stage);
+
+    /**
+     * Advances the reminder stage of a booking still in {@code status}. Only one caller
+     * gets 1 back for a given stage, which makes it safe to send the reminder.
+     */
+    @Modifying
+    @Query("update TestDrive t set t.reminderStage = :stage "
+            + "where t.id = :id and t.status = :status and t.reminderStage < :stage")
+    int claimReminder(@Param("id") Long id, @Param("stage") int stage, @Param("status") TestDriveStatus status);
+
+    /**
+     * Undoes {@link #claimReminder} for a reminder that could not be sent, unless the stage
+     * has moved on since.
+     */
+    @Modifying
+    @Query("update TestDrive t set t.reminderStage = :stage - 1 where t.id = :id and t.reminderStage = :stage")
+    int releaseReminder(@Param("id") Long id, @Param("stage") int stage);
+
+    @Query("select t from TestDrive t join fetch t.car join fetch t.customer where t.id in :ids")
+    List<TestDrive> findAllWithCarAndCustomerByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,17 @@
+package com.autohub.repository;
+
+import com.autohub.dto.testdrive.TestDriveCursor;
+import com.autohub.dto.testdrive.TestDriveQueueFilter;
+import com.autohub.entity.TestDrive;
+
+import java.util.List;
+
+public interface TestDriveRepositoryCustom {
+
+    /**
+     * Up to {@code limit} bookings matching {@code filter} strictly after {@code after}
+     * in (appointment date, id) descending order, with car and customer fetched in the same
+     * query. No COUNT is issued.
+     */
+    List<TestDrive> findQueueSlice(TestDriveQueueFilter filter, TestDriveCursor after, int limit);
+}
@@ -0,0 +1,59 @@
+package com.autohub.repository;
+
+import com.autohub.dto.testdrive.TestDriveCursor;
+import com.autohub.dto.testdrive.TestDriveQueueFilter;
+import com.autohub.entity.TestDrive;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class TestDriveRepositoryImpl implements TestDriveRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    public TestDriveRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<TestDrive> findQueueSlice(TestDriveQueueFilter filter, TestDriveCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TestDrive> query = cb.createQuery(TestDrive.class);
+        Root<TestDrive> root = query.from(TestDrive.class);
+        root.fetch("car");
+        root.fetch("customer");
+
+        Path<LocalDateTime> appointmentDate = root.get("appointmentDate");
+        Path<Long> id = root.get("id");
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter.status() != null) {
+            predicates.add(cb.equal(root.get("status"), filter.status()));
+        }
+        if (filter.carId() != null) {
+            predicates.add(cb.equal(root.get("car").get("id"), filter.carId()));
+        }
+        if (filter.from() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(appointmentDate, filter.from().atStartOfDay()));
+        }
+        if (filter.to() != null) {
+            predicates.add(cb.lessThan(appointmentDate, filter.to().plusDays(1).atStartOfDay()));
+        }
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(appointmentDate, after.appointmentDate()),
+                    cb.and(cb.equal(appointmentDate, after.appointmentDate()), cb.lessThan(id, after.id()))));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(cb.desc(appointmentDate), cb.desc(id));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,12 @@
+package com.autohub.service;
+
+/**
+ * A test drive slot that cannot be booked because someone else holds it. Answered with
+ * 409 so clients can tell it apart from an invalid request.
+ */
+public class BookingConflictException extends RuntimeException {
+
+    public BookingConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,48 @@
+package com.autohub.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed set of locks serializing bookings per car. Each car maps to one stripe, so
+ * bookings for the same car queue up while most bookings for different cars proceed in
+ * parallel, with memory bounded by {@code testdrive.booking.lock-stripes} however many
+ * cars exist. Only guards this JVM; across instances the unique slot constraint remains
+ * the final check.
+ */
+@Component
+public class CarBookingLocks {
+
+    private final ReentrantLock[] stripes;
+    private final long timeoutMillis;
+
+    public CarBookingLocks(@Value("${testdrive.booking.lock-stripes:64}") int stripeCount,
+                           @Value("${testdrive.booking.lock-timeout:5s}") Duration timeout) {
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    /**
+     * Acquires the stripe of {@code carId}; the caller must unlock the returned lock.
+     *
+     * @throws BookingConflictException if the stripe stays busy past the timeout
+     */
+    public ReentrantLock acquire(Long carId) {
+        ReentrantLock lock = stripes[Math.floorMod(Long.hashCode(carId) * 0x9E3779B9, stripes.length)];
+        try {
+            if (lock.tryLock(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                return lock;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        throw new BookingConflictException("Too many bookings in progress for this car, please retry");
+    }
+}
@@ -0,0 +1,100 @@
+package com.autohub.service;
+
+import com.autohub.dto.car.CarExportRow;
+import com.autohub.repository.CarRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Writes the full admin inventory as NDJSON or CSV straight from a streaming result set.
+ * Rows are flat projections, so nothing accumulates in the persistence context and heap
+ * use stays flat however many cars exist; output is flushed as it is produced.
+ */
+@Service
+public class CarExportService {
+
+    private static final int FLUSH_EVERY = 500;
+    private static final String CSV_HEADER = "id,make,model,year,price,transmission,fuelType,status,deleted,"
+            + "description,primaryImage,imageCount,createdAt";
+
+    private final CarRepository carRepository;
+    private final ObjectMapper objectMapper;
+
+    public CarExportService(CarRepository carRepository, ObjectMapper objectMapper) {
+        this.carRepository = carRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    @Transactional(readOnly = true)
+    public void writeNdjson(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        try (Stream<CarExportRow> rows = carRepository.streamExportRows()) {
+            Iterator<CarExportRow> iterator = rows.iterator();
+            int count = 0;
+            while (iterator.hasNext()) {
+                writer.write(objectMapper.writeValueAsString(iterator.next()));
+                writer.write('\n');
+                if (++count % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    @Transactional(readOnly = true)
+    public void writeCsv(OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+        try (Stream<CarExportRow> rows = carRepository.streamExportRows()) {
+            Iterator<CarExportRow> iterator = rows.iterator();
+            int count = 0;
+            while (iterator.hasNext()) {
+                writer.write(toCsvLine(iterator.next()));
+                writer.write('\n');
+                if (++count % FLUSH_EVERY == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private String toCsvLine(CarExportRow row) {
+        return String.join(",",
+                String.valueOf(row.id()),
+                csv(row.make()),
+                csv(row.model()),
+                String.valueOf(row.year()),
+                row.price().toPlainString(),
+                row.transmission().name(),
+                row.fuelType().name(),
+                row.status().name(),
+                String.valueOf(row.deleted()),
+                csv(row.description()),
+                csv(row.primaryImage()),
+                String.valueOf(row.imageCount()),
+                row.createdAt().toString());
+    }
+
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,71 @@
+package com.autohub.service;
+
+import com.autohub.event.CarsBulkChangedEvent;
+import com.autohub.repository.CarRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Fills {@code Car.primaryImagePath} and {@code Car.imageCount} for rows written before
+ * those columns existed. Runs in the background once the application is ready, one short
+ * transaction per batch, walking ids upwards so it can stop and resume at any point.
+ * Rows it has filled no longer match, so later startups find nothing to do.
+ */
+@Component
+public class CarImageSummaryBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(CarImageSummaryBackfill.class);
+
+    private final CarRepository carRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+
+    public CarImageSummaryBackfill(CarRepository carRepository,
+                                   PlatformTransactionManager transactionManager,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${catalog.backfill.batch-size:500}") int batchSize) {
+        this.carRepository = carRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+    }
+
+    @Async("startupJobExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long afterId = 0;
+        long updated = 0;
+        while (true) {
+            long cursor = afterId;
+            List<Long> ids = transactionTemplate.execute(status -> {
+                List<Long> batch = carRepository.findIdsMissingImageSummary(cursor, PageRequest.of(0, batchSize));
+                if (!batch.isEmpty()) {
+                    carRepository.refreshImageSummary(batch);
+                    // Cached responses were built without the primary image
+                    eventPublisher.publishEvent(new CarsBulkChangedEvent(batch));
+                }
+                return batch;
+            });
+            if (ids == null || ids.isEmpty()) {
+                break;
+            }
+            updated += ids.size();
+            afterId = ids.get(ids.size() - 1);
+        }
+        if (updated > 0) {
+            logger.info("Backfilled image summary columns on {} cars", updated);
+        }
+    }
+}
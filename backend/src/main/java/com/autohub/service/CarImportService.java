@@ -0,0 +1,319 @@
+package com.autohub.service;
+
+import com.autohub.dto.car.CarImportError;
+import com.autohub.dto.car.CarImportResult;
+import com.autohub.dto.car.CarRequest;
+import com.autohub.entity.CarStatus;
+import com.autohub.entity.FuelType;
+import com.autohub.entity.TransmissionType;
+import com.autohub.event.CarsBulkChangedEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk car import from CSV or NDJSON.
+ *
+ * Records are parsed and validated one at a time as the body streams in; valid ones are
+ * buffered up to {@code catalog.import.batch-size} and written with a single JDBC batch
+ * per transaction. With {@code rewriteBatchedStatements=true} the MySQL driver sends each
+ * batch as one multi-row INSERT. A batch the database rejects is retried row by row so
+ * that one bad record costs only itself. Invalid records are reported, never fatal.
+ */
+@Service
+public class CarImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CarImportService.class);
+    private static final String INSERT_SQL = "INSERT INTO cars "
+            + "(make, model, year, price, transmission, fuel_type, status, is_deleted, description, image_count, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, false, ?, 0, ?)";
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("make", "model", "year", "price", "transmission", "fueltype");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final int maxReportedErrors;
+
+    public CarImportService(JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            Validator validator,
+                            ObjectMapper objectMapper,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${catalog.import.batch-size:1000}") int batchSize,
+                            @Value("${catalog.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public CarImportResult importNdjson(InputStream in) throws IOException {
+        ImportRun run = new ImportRun();
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        long row = 0;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            row++;
+            try {
+                run.accept(row, objectMapper.readValue(line, CarRequest.class));
+            } catch (JsonProcessingException e) {
+                run.reject(row, e.getOriginalMessage());
+            }
+        }
+        return run.finish();
+    }
+
+    public CarImportResult importCsv(InputStream in) throws IOException {
+        ImportRun run = new ImportRun();
+        CsvReader reader = new CsvReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        List<String> header = reader.next();
+        if (header == null) {
+            return run.finish();
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing columns: " + String.join(", ", missing));
+        }
+
+        List<String> fields;
+        long row = 0;
+        while ((fields = reader.next()) != null) {
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            row++;
+            try {
+                run.accept(row, toRequest(fields, columns));
+            } catch (IllegalArgumentException e) {
+                run.reject(row, e.getMessage());
+            }
+        }
+        return run.finish();
+    }
+
+    private static CarRequest toRequest(List<String> fields, Map<String, Integer> columns) {
+        String year = field(fields, columns, "year");
+        String price = field(fields, columns, "price");
+        String transmission = field(fields, columns, "transmission");
+        String fuelType = field(fields, columns, "fueltype");
+        try {
+            return new CarRequest(
+                    field(fields, columns, "make"),
+                    field(fields, columns, "model"),
+                    year == null ? 0 : Integer.parseInt(year),
+                    price == null ? null : new BigDecimal(price),
+                    transmission == null ? null : TransmissionType.valueOf(transmission.toUpperCase(Locale.ROOT)),
+                    fuelType == null ? null : FuelType.valueOf(fuelType.toUpperCase(Locale.ROOT)),
+                    field(fields, columns, "description"));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid number in year or price");
+        }
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * State of one import: the pending batch, counters and the capped error list.
+     */
+    private class ImportRun {
+
+        private final List<PendingRow> pending = new ArrayList<>(batchSize);
+        private final List<CarImportError> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        void accept(long row, CarRequest request) {
+            String violations = validator.validate(request).stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            if (!violations.isEmpty()) {
+                reject(row, violations);
+                return;
+            }
+            pending.add(new PendingRow(row, request));
+            if (pending.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        void reject(long row, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new CarImportError(row, message));
+            }
+        }
+
+        CarImportResult finish() {
+            flush();
+            logger.info("Car import finished: {} imported, {} rejected", imported, failed);
+            return new CarImportResult(imported, failed, List.copyOf(errors), failed > errors.size());
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            List<PendingRow> batch = List.copyOf(pending);
+            pending.clear();
+            try {
+                imported += insert(batch);
+            } catch (DataAccessException e) {
+                logger.warn("Import batch of {} rows failed, retrying row by row: {}", batch.size(), e.getMessage());
+                for (PendingRow row : batch) {
+                    try {
+                        imported += insert(List.of(row));
+                    } catch (DataAccessException rowError) {
+                        reject(row.row(), rowError.getMostSpecificCause().getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Inserts {@code rows} in one transaction and announces the new ids after it commits.
+     */
+    private int insert(List<PendingRow> rows) {
+        Integer count = transactionTemplate.execute(status -> {
+            List<Long> ids = jdbcTemplate.execute(connection -> {
+                Timestamp now = Timestamp.from(Instant.now());
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                    for (PendingRow row : rows) {
+                        CarRequest request = row.request();
+                        statement.setString(1, request.make().trim());
+                        statement.setString(2, request.model().trim());
+                        statement.setInt(3, request.year());
+                        statement.setBigDecimal(4, request.price());
+                        statement.setString(5, request.transmission().name());
+                        statement.setString(6, request.fuelType().name());
+                        statement.setString(7, CarStatus.AVAILABLE.name());
+                        statement.setString(8, request.description());
+                        statement.setTimestamp(9, now);
+                        statement.addBatch();
+                    }
+                    statement.executeBatch();
+                    List<Long> generated = new ArrayList<>(rows.size());
+                    try (ResultSet keys = statement.getGeneratedKeys()) {
+                        while (keys.next()) {
+                            generated.add(keys.getLong(1));
+                        }
+                    }
+                    return generated;
+                }
+            });
+            eventPublisher.publishEvent(new CarsBulkChangedEvent(ids));
+            return rows.size();
+        });
+        return count != null ? count : 0;
+    }
+
+    private record PendingRow(long row, CarRequest request) {
+    }
+
+    /**
+     * Minimal RFC 4180 reader: comma separated, double-quoted fields may contain commas,
+     * doubled quotes and line breaks.
+     */
+    private static final class CsvReader {
+
+        private final Reader reader;
+        private boolean eof;
+
+        CsvReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        List<String> next() throws IOException {
+            if (eof) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            boolean any = false;
+            int c;
+            while ((c = reader.read()) != -1) {
+                any = true;
+                if (quoted) {
+                    if (c == '"') {
+                        reader.mark(1);
+                        if (reader.read() == '"') {
+                            field.append('"');
+                        } else {
+                            reader.reset();
+                            quoted = false;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    fields.add(field.toString());
+                    return fields;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+            }
+            eof = true;
+            if (!any) {
+                return null;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
@@ -1,20 +1,48 @@
 package com.autohub.service;
 
+import com.autohub.catalog.CarColumnarSnapshot;
+import com.autohub.catalog.CarFullTextIndex;
+import com.autohub.catalog.CarTrigramIndex;
+import com.autohub.catalog.ColumnarPage;
+import com.autohub.dto.car.CarBulkRequest;
+import com.autohub.dto.car.CarCursor;
 import com.autohub.dto.car.CarFilter;
+import com.autohub.dto.car.CarListingRow;
 import com.autohub.dto.car.CarRequest;
 import com.autohub.entity.Car;
 import com.autohub.entity.CarImage;
+import com.autohub.entity.CarStatus;
+import com.autohub.event.CarChangedEvent;
+import com.autohub.event.CarImageFilesReleasedEvent;
+import com.autohub.event.CarImagesAddedEvent;
+import com.autohub.event.CarsBulkChangedEvent;
 import com.autohub.repository.CarImageRepository;
 import com.autohub.repository.CarRepository;
 import com.autohub.repository.CarSpecifications;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 
 @Service
 public class CarService {
@@ -22,13 +50,37 @@ public class CarService {
     private final CarRepository carRepository;
     private final CarImageRepository carImageRepository;
     private final FileService fileService;
+    private final CarTrigramIndex trigramIndex;
+    private final CarFullTextIndex fullTextIndex;
+    private final CarColumnarSnapshot columnarSnapshot;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxIdFilter;
+    private final int maxBulkIds;
+    private final int maxCursorPageSize;
 
     public CarService(CarRepository carRepository,
                       CarImageRepository carImageRepository,
-                      FileService fileService) {
+                      FileService fileService,
+                      CarTrigramIndex trigramIndex,
+                      CarFullTextIndex fullTextIndex,
+                      CarColumnarSnapshot columnarSnapshot,
+                      ApplicationEventPublisher eventPublisher,
+                      PlatformTransactionManager transactionManager,
+                      @Value("${catalog.search.max-id-filter:10000}") int maxIdFilter,
+                      @Value("${catalog.bulk.max-ids:1000}") int maxBulkIds,
+                      @Value("${catalog.listing.max-cursor-page-size:100}") int maxCursorPageSize) {
         this.carRepository = carRepository;
         this.carImageRepository = carImageRepository;
         this.fileService = fileService;
+        this.trigramIndex = trigramIndex;
+        this.fullTextIndex = fullTextIndex;
+        this.columnarSnapshot = columnarSnapshot;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxIdFilter = maxIdFilter;
+        this.maxBulkIds = maxBulkIds;
+        this.maxCursorPageSize = maxCursorPageSize;
     }
 
     public List<Car> listCars() {
@@ -45,10 +97,73 @@ public class CarService {
 
     @Transactional(readOnly = true)
     public Page<Car> listCarsForPublicPaged(CarFilter filter, Pageable pageable) {
-        Page<Car> carPage = carRepository.findAll(CarSpecifications.publicListingSpec(filter), pageable);
-        // Force initialization of images to avoid lazy loading issues
-        carPage.getContent().forEach(car -> car.getImages().size());
-        return carPage;
+        ColumnarPage selected = selectFromSnapshot(filter, pageable);
+        if (selected != null) {
+            return new PageImpl<>(findListedInOrder(selected.ids()), pageable, selected.total());
+        }
+        Specification<Car> spec = resolvePublicSpec(filter);
+        if (spec == null) {
+            return Page.empty(pageable);
+        }
+        // Listing cards use the denormalized primary image, so images stay unloaded
+        return carRepository.findAll(spec, pageable);
+    }
+
+    /**
+     * Same page as {@link #listCarsForPublicPaged}, selected as flat projections instead of
+     * entities. Read-only listings need no persistence-context bookkeeping.
+     */
+    @Transactional(readOnly = true)
+    public Page<CarListingRow> listCarSummariesForPublicPaged(CarFilter filter, Pageable pageable) {
+        ColumnarPage selected = selectFromSnapshot(filter, pageable);
+        if (selected != null) {
+            List<CarListingRow> rows = selected.ids().isEmpty()
+                    ? List.of()
+                    : carRepository.findListingRows(listedIn(selected.ids()), Pageable.unpaged()).getContent();
+            return new PageImpl<>(inOrder(selected.ids(), rows, CarListingRow::id), pageable, selected.total());
+        }
+        Specification<Car> spec = resolvePublicSpec(filter);
+        if (spec == null) {
+            return Page.empty(pageable);
+        }
+        return carRepository.findListingRows(spec, pageable);
+    }
+
+    /**
+     * Free-text search over make, model and description, ranked by BM25. Only the ids on the
+     * requested page are fetched, and the public status/deleted filters are re-applied in
+     * the query in case the index trails a concurrent write.
+     */
+    @Transactional(readOnly = true)
+    public Page<Car> searchCarsForPublic(String query, Pageable pageable) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        List<Long> ranked = fullTextIndex.search(query);
+        int from = (int) Math.min(pageable.getOffset(), ranked.size());
+        int to = Math.min(from + pageable.getPageSize(), ranked.size());
+        return new PageImpl<>(findListedInOrder(ranked.subList(from, to)), pageable, ranked.size());
+    }
+
+    /**
+     * Cursor-paged public listing. Seeks past {@code after} on (sortBy, id) and reads one
+     * extra row to learn whether another page exists, so deep pages cost the same as the
+     * first and no COUNT query runs. {@code size} is capped at
+     * {@code catalog.listing.max-cursor-page-size}.
+     */
+    @Transactional(readOnly = true)
+    public Slice<Car> listCarsForPublicKeyset(CarFilter filter, String sortBy, Sort.Direction direction,
+                                              CarCursor after, int requestedSize) {
+        int size = Math.clamp(requestedSize, 1, maxCursorPageSize);
+        Sort sort = CarSpecifications.keysetSort(sortBy, direction);
+        Specification<Car> spec = resolvePublicSpec(filter);
+        if (spec == null) {
+            return new SliceImpl<>(List.of(), PageRequest.of(0, size, sort), false);
+        }
+        List<Car> cars = carRepository.findKeysetSlice(spec.and(CarSpecifications.seekAfter(after)), sort, size + 1);
+        boolean hasNext = cars.size() > size;
+        List<Car> content = hasNext ? cars.subList(0, size) : cars;
+        return new SliceImpl<>(content, PageRequest.of(0, size, sort), hasNext);
     }
 
     @Transactional(readOnly = true)
@@ -68,51 +183,160 @@ public class CarService {
         return car;
     }
 
-    @Transactional
+    /**
+     * Writes the uploads to disk first, in parallel and outside any transaction, then
+     * inserts the car and its image rows in one short transaction. Files created for a
+     * car that fails to save are removed again.
+     */
     public Car createCar(CarRequest request, List<MultipartFile> images, Integer primaryIndex) throws IOException {
-        Car car = new Car();
-        applyRequest(car, request);
-        Car saved = carRepository.save(car);
-        attachImages(saved, images, primaryIndex);
-        return saved;
+        List<StoredFile> stored = storeUploads(images);
+        try {
+            return transactionTemplate.execute(status -> {
+                Car car = new Car();
+                applyRequest(car, request);
+                Car saved = carRepository.save(car);
+                attachImages(saved, stored, primaryIndex);
+                eventPublisher.publishEvent(new CarChangedEvent(saved));
+                return saved;
+            });
+        } catch (RuntimeException e) {
+            fileService.discard(stored);
+            throw e;
+        }
     }
 
     @Transactional
     public Car updateCar(Long id, CarRequest request) {
         Car car = getCar(id);
         applyRequest(car, request);
-        return carRepository.save(car);
+        Car saved = carRepository.save(car);
+        eventPublisher.publishEvent(new CarChangedEvent(saved));
+        return saved;
     }
 
     @Transactional
-    public void deleteCar(Long id) throws IOException {
+    public void deleteCar(Long id) {
         Car car = getCar(id);
-        for (CarImage image : car.getImages()) {
-            fileService.deleteFile(image.getImagePath());
-        }
         car.setDeleted(true);
         carRepository.save(car);
+        eventPublisher.publishEvent(new CarChangedEvent(car));
     }
 
     @Transactional
     public Car restoreCar(Long id) {
         Car car = getCar(id);
         car.setDeleted(false);
-        return carRepository.save(car);
+        Car saved = carRepository.save(car);
+        eventPublisher.publishEvent(new CarChangedEvent(saved));
+        return saved;
     }
 
     @Transactional
-    public Car updateCarStatus(Long id, com.autohub.entity.CarStatus status) {
+    public Car updateCarStatus(Long id, CarStatus status) {
         Car car = getCar(id);
         car.setStatus(status);
-        return carRepository.save(car);
+        Car saved = carRepository.save(car);
+        eventPublisher.publishEvent(new CarChangedEvent(saved));
+        return saved;
+    }
+
+    /**
+     * Sets {@code status} on every selected car with one UPDATE statement.
+     *
+     * @return the number of cars updated
+     */
+    @Transactional
+    public int updateCarStatusBulk(CarBulkRequest request) {
+        if (request.status() == null) {
+            throw new IllegalArgumentException("Status is required");
+        }
+        Specification<Car> selection = bulkSelection(request);
+        int updated = carRepository.updateStatus(selection, request.status());
+        publishBulkChange(request, updated);
+        return updated;
+    }
+
+    /**
+     * Soft-deletes every selected car with one UPDATE statement. Image rows and files are
+     * kept so {@link #restoreCarsBulk} brings the cars back intact.
+     *
+     * @return the number of cars deleted
+     */
+    @Transactional
+    public int deleteCarsBulk(CarBulkRequest request) {
+        Specification<Car> selection = bulkSelection(request).and(CarSpecifications.notDeleted());
+        int deleted = carRepository.updateDeleted(selection, true);
+        publishBulkChange(request, deleted);
+        return deleted;
     }
 
+    /**
+     * Restores every selected soft-deleted car with one UPDATE statement.
+     *
+     * @return the number of cars restored
+     */
     @Transactional
+    public int restoreCarsBulk(CarBulkRequest request) {
+        Specification<Car> selection = bulkSelection(request).and(CarSpecifications.deleted());
+        int restored = carRepository.updateDeleted(selection, false);
+        publishBulkChange(request, restored);
+        return restored;
+    }
+
+    /**
+     * Cars selected by id are refreshed one by one; the UPDATE touched a subset of them and
+     * reloading the rest is harmless. Which cars a filter matched is not known without
+     * locking the selection, since cars can enter or leave it while the UPDATE runs, so a
+     * filtered update refreshes the whole catalog.
+     */
+    private void publishBulkChange(CarBulkRequest request, int updated) {
+        if (updated == 0) {
+            return;
+        }
+        eventPublisher.publishEvent(request.filter() == null || request.filter().isEmpty()
+                ? new CarsBulkChangedEvent(List.copyOf(request.ids()))
+                : CarsBulkChangedEvent.wholeCatalog());
+    }
+
+    /**
+     * Ids or a non-empty filter, exactly one of them; an empty filter would select the
+     * whole catalog and is refused. At most {@code catalog.bulk.max-ids} ids go into the
+     * IN list; larger selections have to be made by filter.
+     */
+    private Specification<Car> bulkSelection(CarBulkRequest request) {
+        boolean byIds = request.ids() != null && !request.ids().isEmpty();
+        boolean byFilter = request.filter() != null && !request.filter().isEmpty();
+        if (byIds == byFilter) {
+            throw new IllegalArgumentException("Select cars either by ids or by a non-empty filter");
+        }
+        if (byIds && request.ids().size() > maxBulkIds) {
+            throw new IllegalArgumentException("Select at most " + maxBulkIds + " cars by id, or use a filter");
+        }
+        return byIds
+                ? Specification.where(CarSpecifications.idIn(request.ids()))
+                : CarSpecifications.adminListingSpec(request.filter());
+    }
+
+    /**
+     * Same split as {@link #createCar}: files are written before the transaction that
+     * adds their rows, and removed again if it fails.
+     */
     public Car addImages(Long id, List<MultipartFile> images, Integer primaryIndex) throws IOException {
-        Car car = getCar(id);
-        attachImages(car, images, primaryIndex);
-        return car;
+        if (!carRepository.existsById(id)) {
+            throw new IllegalArgumentException("Car not found");
+        }
+        List<StoredFile> stored = storeUploads(images);
+        try {
+            return transactionTemplate.execute(status -> {
+                Car car = getCar(id);
+                attachImages(car, stored, primaryIndex);
+                eventPublisher.publishEvent(new CarChangedEvent(car));
+                return car;
+            });
+        } catch (RuntimeException e) {
+            fileService.discard(stored);
+            throw e;
+        }
     }
 
     @Transactional
@@ -123,38 +347,108 @@ public class CarService {
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("Image not found"));
         car.markPrimaryImage(image);
-        return carRepository.save(car);
+        Car saved = carRepository.save(car);
+        eventPublisher.publishEvent(new CarChangedEvent(saved));
+        return saved;
     }
 
     @Transactional
-    public void removeImage(Long carId, Long imageId) throws IOException {
+    public void removeImage(Long carId, Long imageId) {
         Car car = getCar(carId);
         CarImage image = car.getImages().stream()
                 .filter(img -> img.getId().equals(imageId))
                 .findFirst()
                 .orElseThrow(() -> new IllegalArgumentException("Image not found"));
         car.removeImage(image);
-        fileService.deleteFile(image.getImagePath());
         carImageRepository.delete(image);
+        eventPublisher.publishEvent(new CarChangedEvent(car));
+        // The file may be shared with other images; it is released once this commits
+        eventPublisher.publishEvent(new CarImageFilesReleasedEvent(List.of(image.getImagePath())));
     }
 
-    private void attachImages(Car car, List<MultipartFile> images, Integer primaryIndex) throws IOException {
+    /**
+     * Page ids from the columnar snapshot, or {@code null} when it is disabled or cannot
+     * answer this filter/sort, in which case the database query runs as before.
+     */
+    private ColumnarPage selectFromSnapshot(CarFilter filter, Pageable pageable) {
+        if (!columnarSnapshot.isEnabled() || pageable.isUnpaged() || pageable.getSort().stream().count() != 1) {
+            return null;
+        }
+        Sort.Order order = pageable.getSort().iterator().next();
+        Set<Long> candidates = trigramIndex.search(filter.make(), filter.model());
+        return columnarSnapshot.select(filter, candidates, order.getProperty(), order.getDirection(),
+                pageable.getOffset(), pageable.getPageSize());
+    }
+
+    /**
+     * Loads the listed cars with the given ids, in the order given. The public status and
+     * deleted filters are re-applied in case an in-memory index trails a concurrent write.
+     */
+    private List<Car> findListedInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        // The pageable variant skips the images entity graph that findAll(spec) applies
+        return inOrder(ids, carRepository.findAll(listedIn(ids), Pageable.unpaged()).getContent(), Car::getId);
+    }
+
+    private static Specification<Car> listedIn(List<Long> ids) {
+        return Specification.where(CarSpecifications.notDeleted())
+                .and(CarSpecifications.statusAvailable())
+                .and(CarSpecifications.idIn(ids));
+    }
+
+    private static <T> List<T> inOrder(List<Long> ids, List<T> rows, Function<T, Long> idOf) {
+        Map<Long, T> byId = new HashMap<>();
+        rows.forEach(row -> byId.put(idOf.apply(row), row));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    /**
+     * Public listing spec with the make/model "contains" filters answered by the trigram
+     * index, so the query only fetches rows by id. Falls back to the LIKE predicates when
+     * the match set is too large for an IN list, and returns {@code null} when the index
+     * proves nothing can match.
+     */
+    private Specification<Car> resolvePublicSpec(CarFilter filter) {
+        Set<Long> ids = trigramIndex.search(filter.make(), filter.model());
+        if (ids == null || ids.size() > maxIdFilter) {
+            return CarSpecifications.publicListingSpec(filter);
+        }
+        if (ids.isEmpty()) {
+            return null;
+        }
+        return CarSpecifications.publicListingSpec(filter.withoutMakeAndModel())
+                .and(CarSpecifications.idIn(ids));
+    }
+
+    private List<StoredFile> storeUploads(List<MultipartFile> images) throws IOException {
         if (images == null || images.isEmpty()) {
+            return List.of();
+        }
+        return fileService.saveFiles(images);
+    }
+
+    private void attachImages(Car car, List<StoredFile> stored, Integer primaryIndex) {
+        if (stored.isEmpty()) {
             return;
         }
+        List<CarImage> added = new ArrayList<>(stored.size());
         int index = 0;
-        for (MultipartFile file : images) {
-            String savedPath = fileService.saveFile(file);
+        for (StoredFile file : stored) {
             CarImage image = new CarImage();
-            image.setImagePath(savedPath);
+            image.setImagePath(file.path());
             boolean isPrimary = primaryIndex != null && primaryIndex == index;
             image.setPrimaryImage(isPrimary);
             car.addImage(image);
+            added.add(image);
             index++;
         }
         if (car.getImages().stream().noneMatch(CarImage::isPrimaryImage)) {
-            car.getImages().get(0).setPrimaryImage(true);
+            car.markPrimaryImage(car.getImages().get(0));
         }
+        // Renditions are generated in the background after commit
+        eventPublisher.publishEvent(new CarImagesAddedEvent(car.getId(), added));
     }
 
     private void applyRequest(Car car, CarRequest request) {
@@ -3,10 +3,12 @@ package com.autohub.service;
 import com.autohub.entity.AppUser;
 import com.autohub.entity.Car;
 import com.autohub.entity.Favorite;
+import com.autohub.event.FavoritesChangedEvent;
 import com.autohub.repository.AppUserRepository;
 import com.autohub.repository.CarRepository;
 import com.autohub.repository.FavoriteRepository;
 import jakarta.transaction.Transactional;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -17,13 +19,16 @@ public class FavoriteService {
     private final FavoriteRepository favoriteRepository;
     private final AppUserRepository appUserRepository;
     private final CarRepository carRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public FavoriteService(FavoriteRepository favoriteRepository,
                            AppUserRepository appUserRepository,
-                           CarRepository carRepository) {
+                           CarRepository carRepository,
+                           ApplicationEventPublisher eventPublisher) {
         this.favoriteRepository = favoriteRepository;
         this.appUserRepository = appUserRepository;
         this.carRepository = carRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     @Transactional
@@ -37,7 +42,9 @@ public class FavoriteService {
                     .orElseThrow();
         }
         Favorite favorite = new Favorite(user, car);
-        return favoriteRepository.save(favorite);
+        Favorite saved = favoriteRepository.save(favorite);
+        eventPublisher.publishEvent(new FavoritesChangedEvent(email));
+        return saved;
     }
 
     public List<Favorite> listFavorites(String email) {
@@ -46,10 +53,12 @@ public class FavoriteService {
         return favoriteRepository.findAllByUserId(user.getId());
     }
 
+    @Transactional
     public List<Car> listFavoritesWithDetails(String email) {
         AppUser user = appUserRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
-        List<Favorite> favorites = favoriteRepository.findAllByUserId(user.getId());
+        // Cars and their images come back in the same query as the favorites
+        List<Favorite> favorites = favoriteRepository.findAllWithCarAndImagesByUserId(user.getId());
         return favorites.stream()
                 .map(Favorite::getCar)
                 .toList();
@@ -60,5 +69,6 @@ public class FavoriteService {
         AppUser user = appUserRepository.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
         favoriteRepository.deleteByUserIdAndCarId(user.getId(), carId);
+        eventPublisher.publishEvent(new FavoritesChangedEvent(email));
     }
 }
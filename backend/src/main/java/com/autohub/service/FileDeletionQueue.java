@@ -0,0 +1,69 @@
+package com.autohub.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Single background worker applying file deletions released by committed transactions.
+ * Nothing is deleted while a transaction that might roll back still holds the reference,
+ * and request threads never wait on the filesystem. Deletions still pending at shutdown
+ * are dropped; the reclamation job removes those files later. Queue depth is published
+ * as {@code uploads.deletion.queue.depth}.
+ */
+@Component
+public class FileDeletionQueue {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileDeletionQueue.class);
+
+    private final FileService fileService;
+    private final BlockingQueue<String> pending = new LinkedBlockingQueue<>();
+    private Thread worker;
+
+    public FileDeletionQueue(FileService fileService, MeterRegistry meterRegistry) {
+        this.fileService = fileService;
+        Gauge.builder("uploads.deletion.queue.depth", pending, BlockingQueue::size)
+                .description("Released upload files waiting to be deleted")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        worker = Thread.ofPlatform().name("file-deletion").daemon().start(this::run);
+    }
+
+    @PreDestroy
+    public void stop() {
+        worker.interrupt();
+    }
+
+    public void enqueue(Collection<String> imagePaths) {
+        pending.addAll(imagePaths);
+    }
+
+    private void run() {
+        while (!Thread.currentThread().isInterrupted()) {
+            String path;
+            try {
+                path = pending.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                fileService.deleteFile(path);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Could not delete released file {}: {}", path, e.getMessage());
+            }
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.autohub.service;
 
+import com.autohub.entity.ImageRendition;
+import com.autohub.repository.CarImageRepository;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,19 +11,62 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.util.UUID;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
 
+/**
+ * Content-addressed upload store. Each file is named after the SHA-256 of its bytes, so an
+ * upload identical to a stored one costs no extra disk space and shares its renditions.
+ * Files live in hash-prefix shard directories (see {@link #shardedPath}).
+ * Blobs are reference counted through {@code car_images.image_path}: {@link #deleteFile}
+ * only removes a blob no image row points at any more. Deduplicating onto a blob and
+ * deleting it hold the same striped lock, so a delete cannot slip in between an upload
+ * finding the blob and refreshing its timestamp.
+ */
 @Service
 public class FileService {
 
     private static final Logger logger = LoggerFactory.getLogger(FileService.class);
+    private static final Pattern EXTENSION = Pattern.compile("[a-z0-9]{1,10}");
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final Pattern SHARD_PREFIX = Pattern.compile("[0-9a-f]{4}");
+    private static final int PATH_LOCK_STRIPES = 64;
+
     private final Path uploadRoot;
+    private final CarImageRepository carImageRepository;
+    private final Duration deleteGrace;
+    private final ReentrantLock[] pathLocks = new ReentrantLock[PATH_LOCK_STRIPES];
 
-    public FileService(@Value("${storage.upload-dir}") String uploadDir) {
+    public FileService(@Value("${storage.upload-dir}") String uploadDir,
+                       CarImageRepository carImageRepository,
+                       @Value("${storage.delete-grace:10m}") Duration deleteGrace) {
         this.uploadRoot = Path.of(uploadDir).toAbsolutePath().normalize();
+        this.carImageRepository = carImageRepository;
+        this.deleteGrace = deleteGrace;
+        for (int i = 0; i < pathLocks.length; i++) {
+            pathLocks[i] = new ReentrantLock();
+        }
     }
 
     @PostConstruct
@@ -35,20 +80,240 @@ public class FileService {
         }
     }
 
+    /**
+     * Stores {@code file} under the hex SHA-256 of its content plus its lower-cased
+     * extension. The digest is computed while the upload streams into a temporary file;
+     * when a blob with that name already exists the temporary copy is dropped.
+     */
     public String saveFile(MultipartFile file) throws IOException {
-        String filename = UUID.randomUUID() + "-" + StringUtils.cleanPath(file.getOriginalFilename());
-        Path target = uploadRoot.resolve(filename).normalize();
-        Files.copy(file.getInputStream(), target, StandardCopyOption.REPLACE_EXISTING);
-        logger.debug("Saved file: {}", filename);
-        return filename;
+        return store(file).path();
+    }
+
+    /**
+     * Saves {@code files} concurrently, one virtual thread each, returning them in input
+     * order. Uploads are disk-bound, so this overlaps their writes without tying up
+     * platform threads. If any save fails, the files this call created are removed again
+     * before the exception is rethrown.
+     */
+    public List<StoredFile> saveFiles(List<MultipartFile> files) throws IOException {
+        List<Future<StoredFile>> futures = new ArrayList<>(files.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (MultipartFile file : files) {
+                futures.add(executor.submit(() -> store(file)));
+            }
+        }
+        List<StoredFile> stored = new ArrayList<>(files.size());
+        IOException failure = null;
+        for (Future<StoredFile> future : futures) {
+            try {
+                stored.add(future.get());
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = new IOException("Interrupted while saving uploads", e);
+                break;
+            }
+        }
+        if (failure != null) {
+            discard(stored);
+            throw failure;
+        }
+        return stored;
+    }
+
+    /**
+     * Removes files created by {@link #saveFiles} whose rows never got committed. Files the
+     * uploads were deduplicated onto belong to someone else and are left alone. The rest go
+     * through {@link #deleteFile}: a concurrent upload of the same bytes can also see itself
+     * as the creator, and its row may still be uncommitted, so a file written within
+     * {@code storage.delete-grace} stays for {@link UploadReclamationJob} to collect.
+     */
+    public void discard(List<StoredFile> files) {
+        for (StoredFile file : files) {
+            if (!file.created()) {
+                continue;
+            }
+            try {
+                deleteFile(file.path());
+            } catch (IOException e) {
+                logger.warn("Could not remove discarded upload {}: {}", file.path(), e.getMessage());
+            }
+        }
+    }
+
+    private StoredFile store(MultipartFile file) throws IOException {
+        Path temp = Files.createTempFile(uploadRoot, ".upload-", ".tmp");
+        try {
+            MessageDigest digest = sha256();
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                byte[] buffer = new byte[COPY_BUFFER_SIZE];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    out.write(buffer, 0, read);
+                }
+            }
+            String filename = HexFormat.of().formatHex(digest.digest()) + extensionOf(file.getOriginalFilename());
+            String relativePath = shardedPath(filename);
+            ReentrantLock lock = lockFor(filename);
+            lock.lock();
+            try {
+                // Identical content stored before sharding may still sit in the root
+                String existing = Files.exists(uploadRoot.resolve(filename)) ? filename
+                        : Files.exists(uploadRoot.resolve(relativePath)) ? relativePath
+                        : null;
+                if (existing != null && touch(existing)) {
+                    logger.debug("Deduplicated upload: {}", existing);
+                    return new StoredFile(existing, false);
+                }
+                Path target = resolve(relativePath);
+                Files.createDirectories(target.getParent());
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                logger.debug("Saved file: {}", relativePath);
+                return new StoredFile(relativePath, true);
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
     }
 
+    /**
+     * Deletes a stored blob together with its renditions once no image row references it.
+     * Call it after the transaction that dropped the reference has committed. A blob that
+     * was re-used by an upload within {@code storage.delete-grace} is left in place, since
+     * the row referencing it may not be committed yet.
+     *
+     * A flat name and its sharded path reach the same file through {@link #resolve}, so
+     * rows under either spelling keep it alive; a delete queued before the shard migration
+     * rewrote the rows must not remove the moved file.
+     */
     public void deleteFile(String relativePath) throws IOException {
         if (relativePath == null || relativePath.isBlank()) {
             return;
         }
+        if (carImageRepository.countByImagePathIn(aliases(relativePath)) > 0) {
+            logger.debug("File still referenced, kept: {}", relativePath);
+            return;
+        }
+        ReentrantLock lock = lockFor(relativePath);
+        lock.lock();
+        try {
+            Path target = resolve(relativePath);
+            if (Files.exists(target)
+                    && Files.getLastModifiedTime(target).toInstant().isAfter(Instant.now().minus(deleteGrace))) {
+                logger.debug("File re-used recently, kept: {}", relativePath);
+                return;
+            }
+            Files.deleteIfExists(target);
+            deleteRenditions(relativePath);
+            logger.debug("Deleted file: {}", relativePath);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Refreshes the timestamp of a blob an upload is deduplicated onto, which keeps
+     * {@link #deleteFile} from reclaiming it within {@code storage.delete-grace}. Returns
+     * false when the blob has just been removed by something not holding the path lock
+     * (the reclamation job, another instance), so the upload is written anew instead.
+     */
+    private boolean touch(String existing) throws IOException {
+        try {
+            Files.setLastModifiedTime(resolve(existing), FileTime.from(Instant.now()));
+            return true;
+        } catch (NoSuchFileException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Stripe serializing {@link #store} and {@link #deleteFile} on one blob, keyed by file
+     * name so the flat and sharded spellings share it.
+     */
+    private ReentrantLock lockFor(String relativePath) {
+        String filename = relativePath.substring(relativePath.lastIndexOf('/') + 1);
+        return pathLocks[Math.floorMod(filename.hashCode() * 0x9E3779B9, pathLocks.length)];
+    }
+
+    /**
+     * Every stored path that resolves to the same file as {@code relativePath}.
+     */
+    private static List<String> aliases(String relativePath) {
+        int slash = relativePath.lastIndexOf('/');
+        if (slash < 0) {
+            return List.of(relativePath, shardedPath(relativePath));
+        }
+        String filename = relativePath.substring(slash + 1);
+        return relativePath.equals(shardedPath(filename)) ? List.of(relativePath, filename) : List.of(relativePath);
+    }
+
+    public void deleteRenditions(String relativePath) throws IOException {
+        for (ImageRendition rendition : ImageRendition.values()) {
+            Files.deleteIfExists(resolve(rendition.pathFor(relativePath)));
+        }
+    }
+
+    private static String extensionOf(String originalFilename) {
+        String extension = StringUtils.getFilenameExtension(StringUtils.cleanPath(
+                originalFilename == null ? "" : originalFilename));
+        if (extension == null) {
+            return "";
+        }
+        extension = extension.toLowerCase(Locale.ROOT);
+        return EXTENSION.matcher(extension).matches() ? "." + extension : "";
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public Path uploadRoot() {
+        return uploadRoot;
+    }
+
+    /**
+     * Absolute location of a stored path. Flat legacy names resolve in the root as before;
+     * once the shard migration has moved such a file, the flat name keeps resolving to its
+     * new location until the row is rewritten.
+     */
+    public Path resolve(String relativePath) {
+        Path target = checked(relativePath);
+        if (relativePath.indexOf('/') < 0 && !Files.exists(target)) {
+            Path sharded = checked(shardedPath(relativePath));
+            if (Files.exists(sharded)) {
+                return sharded;
+            }
+        }
+        return target;
+    }
+
+    /**
+     * Two-level layout {@code ab/cd/name}, keeping each directory to a few thousand entries
+     * at millions of files. The prefix is the name's own leading hex (content hashes and
+     * UUIDs are uniformly distributed), or a hash of the name for anything else.
+     */
+    public static String shardedPath(String filename) {
+        String prefix = SHARD_PREFIX.matcher(filename).lookingAt()
+                ? filename.substring(0, 4)
+                : HexFormat.of().formatHex(sha256().digest(filename.getBytes(StandardCharsets.UTF_8))).substring(0, 4);
+        return prefix.substring(0, 2) + "/" + prefix.substring(2, 4) + "/" + filename;
+    }
+
+    private Path checked(String relativePath) {
         Path target = uploadRoot.resolve(relativePath).normalize();
-        Files.deleteIfExists(target);
-        logger.debug("Deleted file: {}", relativePath);
+        if (!target.startsWith(uploadRoot)) {
+            throw new IllegalArgumentException("Path escapes the upload directory: " + relativePath);
+        }
+        return target;
     }
 }
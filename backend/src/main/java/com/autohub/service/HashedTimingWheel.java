@@ -0,0 +1,88 @@
+package com.autohub.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Hashed timing wheel: a ring of buckets, one per tick, each holding the keys whose
+ * deadline falls on a tick mapping to it. Scheduling and cancelling are O(1); a tick only
+ * looks at one bucket, where entries more than a rotation ahead simply stay put.
+ *
+ * {@link #advance} processes every tick between the last call and now, so a late or
+ * stalled caller loses nothing; after a full rotation every bucket has been visited and
+ * the rest of the gap needs no work. One value per key: scheduling a key again replaces it.
+ */
+final class HashedTimingWheel<K, V> {
+
+    private final long tickMillis;
+    private final List<Set<K>> buckets;
+    private final Map<K, Entry<V>> entries = new HashMap<>();
+    private long currentTick;
+
+    HashedTimingWheel(long tickMillis, int bucketCount, long startMillis) {
+        this.tickMillis = tickMillis;
+        this.buckets = new ArrayList<>(bucketCount);
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(new HashSet<>());
+        }
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    /**
+     * Fires {@code value} on the first tick at or after {@code deadlineMillis}, or on the
+     * next tick if that has already passed.
+     */
+    synchronized void schedule(K key, V value, long deadlineMillis) {
+        cancel(key);
+        long tick = Math.max(Math.ceilDiv(deadlineMillis, tickMillis), currentTick + 1);
+        entries.put(key, new Entry<>(value, tick));
+        bucketOf(tick).add(key);
+    }
+
+    synchronized void cancel(K key) {
+        Entry<V> previous = entries.remove(key);
+        if (previous != null) {
+            bucketOf(previous.tick()).remove(key);
+        }
+    }
+
+    /**
+     * Moves the wheel to {@code nowMillis} and returns the values that came due.
+     */
+    synchronized List<V> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        List<V> due = new ArrayList<>();
+        long ticks = Math.min(targetTick - currentTick, buckets.size());
+        for (long i = 1; i <= ticks; i++) {
+            Set<K> bucket = bucketOf(currentTick + i);
+            Iterator<K> iterator = bucket.iterator();
+            while (iterator.hasNext()) {
+                K key = iterator.next();
+                Entry<V> entry = entries.get(key);
+                if (entry.tick() <= targetTick) {
+                    due.add(entry.value());
+                    entries.remove(key);
+                    iterator.remove();
+                }
+            }
+        }
+        currentTick = Math.max(currentTick, targetTick);
+        return due;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    private Set<K> bucketOf(long tick) {
+        return buckets.get((int) Math.floorMod(tick, (long) buckets.size()));
+    }
+
+    private record Entry<V>(V value, long tick) {
+    }
+}
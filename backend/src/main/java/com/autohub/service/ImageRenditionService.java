@@ -0,0 +1,182 @@
+package com.autohub.service;
+
+import com.autohub.entity.ImageRendition;
+import com.autohub.event.CarsBulkChangedEvent;
+import com.autohub.repository.CarImageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Generates the {@link ImageRendition} JPEGs for uploaded car images on a dedicated
+ * bounded executor, then records them on the {@code CarImage} row.
+ *
+ * When the queue is full the image is skipped rather than blocking the upload; clients
+ * fall back to the original for images without renditions. Queue depth, active workers
+ * and rejected, completed and failed jobs are published as {@code images.renditions.*}
+ * metrics.
+ */
+@Service
+public class ImageRenditionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImageRenditionService.class);
+
+    private final FileService fileService;
+    private final CarImageRepository carImageRepository;
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final float jpegQuality;
+    private final Counter rejected;
+    private final Counter completed;
+    private final Counter failed;
+
+    public ImageRenditionService(FileService fileService,
+                                 CarImageRepository carImageRepository,
+                                 @Qualifier("imageRenditionExecutor") ThreadPoolTaskExecutor executor,
+                                 PlatformTransactionManager transactionManager,
+                                 ApplicationEventPublisher eventPublisher,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${storage.renditions.jpeg-quality:0.8}") float jpegQuality) {
+        this.fileService = fileService;
+        this.carImageRepository = carImageRepository;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.jpegQuality = jpegQuality;
+        Gauge.builder("images.renditions.queue.depth", executor,
+                        e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("Images waiting for rendition generation")
+                .register(meterRegistry);
+        Gauge.builder("images.renditions.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Rendition jobs currently running")
+                .register(meterRegistry);
+        this.rejected = meterRegistry.counter("images.renditions.jobs", "result", "rejected");
+        this.completed = meterRegistry.counter("images.renditions.jobs", "result", "completed");
+        this.failed = meterRegistry.counter("images.renditions.jobs", "result", "failed");
+    }
+
+    public void submit(Long carId, Long imageId, String imagePath) {
+        try {
+            executor.execute(() -> render(carId, imageId, imagePath));
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            logger.warn("Rendition queue full, image {} will be served without renditions", imageId);
+        }
+    }
+
+    private void render(Long carId, Long imageId, String imagePath) {
+        try {
+            // Stored files are content-addressed, so a duplicate upload finds its renditions in place
+            boolean missing = Arrays.stream(ImageRendition.values())
+                    .anyMatch(rendition -> !Files.exists(fileService.resolve(rendition.pathFor(imagePath))));
+            if (missing) {
+                BufferedImage original = ImageIO.read(fileService.resolve(imagePath).toFile());
+                if (original == null) {
+                    logger.info("No ImageIO reader for {}, skipping renditions", imagePath);
+                    return;
+                }
+                for (ImageRendition rendition : ImageRendition.values()) {
+                    writeJpeg(scale(original, rendition.maxWidth()), fileService.resolve(rendition.pathFor(imagePath)));
+                }
+            }
+            String names = Arrays.stream(ImageRendition.values()).map(Enum::name).collect(Collectors.joining(","));
+            Integer updated = transactionTemplate.execute(status -> {
+                int rows = carImageRepository.updateRenditions(imageId, names);
+                if (rows > 0) {
+                    // Cached car responses list the image without renditions
+                    eventPublisher.publishEvent(new CarsBulkChangedEvent(List.of(carId)));
+                }
+                return rows;
+            });
+            if (updated == null || updated == 0) {
+                // The image was removed meanwhile; drop the files unless other images share them
+                fileService.deleteFile(imagePath);
+            }
+            completed.increment();
+        } catch (IOException | RuntimeException e) {
+            failed.increment();
+            logger.warn("Rendition generation failed for image {}: {}", imageId, e.getMessage());
+        }
+    }
+
+    /**
+     * Fits {@code source} into {@code maxWidth} without upscaling. Large reductions are
+     * done in halving steps, which keeps bicubic filtering from aliasing; transparency is
+     * flattened onto white since JPEG has no alpha channel.
+     */
+    private static BufferedImage scale(BufferedImage source, int maxWidth) {
+        int targetWidth = Math.min(maxWidth, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = width == targetWidth ? targetHeight : Math.max(targetHeight, height / 2);
+            BufferedImage step = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = step.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+                graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+                graphics.setColor(Color.WHITE);
+                graphics.fillRect(0, 0, width, height);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = step;
+        } while (width > targetWidth);
+        return current;
+    }
+
+    /**
+     * Writes through a temporary sibling and renames it into place, so a reader never sees
+     * a half-written rendition.
+     */
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Path temp = Files.createTempFile(target.getParent(), ".rendition-", ".tmp");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try {
+            try (ImageOutputStream output = ImageIO.createImageOutputStream(temp.toFile())) {
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(jpegQuality);
+                param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+                writer.setOutput(output);
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            writer.dispose();
+            Files.deleteIfExists(temp);
+        }
+    }
+}
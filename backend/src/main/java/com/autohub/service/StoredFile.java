@@ -0,0 +1,8 @@
+package com.autohub.service;
+
+/**
+ * A saved upload. {@code created} is false when identical content was already stored and
+ * the upload was deduplicated onto it.
+ */
+public record StoredFile(String path, boolean created) {
+}
@@ -4,6 +4,8 @@ import com.autohub.entity.TestDrive;
 import org.springframework.stereotype.Service;
 
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -70,4 +72,36 @@ public class TestDriveNotificationService {
                 "Test Drive Booking Cancelled",
                 body);
     }
+
+    /**
+     * Sends the appointment reminder for each of {@code testDrives}, which must have car and
+     * customer loaded. The template is read once per batch; a failed send is logged and
+     * does not stop the others.
+     *
+     * @return the test drives whose reminder could not be sent
+     */
+    public List<TestDrive> sendReminders(List<TestDrive> testDrives, String timeUntil) {
+        String template = emailService.loadTemplate("templates/test-drive-reminder.html");
+        List<TestDrive> failed = new ArrayList<>();
+        for (TestDrive testDrive : testDrives) {
+            String body = template
+                    .replace("{{name}}", testDrive.getCustomer().getFullName())
+                    .replace("{{car}}", testDrive.getCar().getMake() + " " + testDrive.getCar().getModel())
+                    .replace("{{date}}", testDrive.getAppointmentDate().format(FORMATTER))
+                    .replace("{{timeUntil}}", timeUntil);
+            try {
+                emailService.sendStatusUpdateEmail(
+                        testDrive.getCustomer().getEmail(),
+                        "Reminder: your test drive is in " + timeUntil,
+                        body);
+            } catch (Exception e) {
+                log.error("❌ Failed to send reminder for TestDrive ID: {} - Error: {}",
+                        testDrive.getId(), e.getMessage());
+                failed.add(testDrive);
+            }
+        }
+        log.info("⏰ Sent {} of {} test drive reminders ({} ahead)",
+                testDrives.size() - failed.size(), testDrives.size(), timeUntil);
+        return failed;
+    }
 }
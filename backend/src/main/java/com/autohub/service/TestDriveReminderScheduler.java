@@ -0,0 +1,208 @@
+package com.autohub.service;
+
+import com.autohub.dto.testdrive.TestDriveReminderEntry;
+import com.autohub.entity.TestDrive;
+import com.autohub.entity.TestDriveStatus;
+import com.autohub.repository.TestDriveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sends reminder emails ahead of approved test drives, {@code testdrive.reminders.leads}
+ * before the appointment (24 hours and 1 hour by default).
+ *
+ * Pending reminders live in a {@link HashedTimingWheel}, loaded at startup with the
+ * upcoming approved bookings and kept current from status changes and cancellations, so
+ * no query runs until something is due. {@code test_drives.reminder_stage} counts the
+ * reminders already sent; a reminder is sent only after a conditional update has moved
+ * the stage forward, so a restart, a retry or a second instance never sends it twice.
+ * A send that fails moves the stage back and is tried again {@code RETRY_DELAY} later,
+ * until the appointment has passed.
+ * Reminders that fell due while the application was down go out right after startup,
+ * except when a later one is already due, in which case only the later one is sent.
+ */
+@Component
+public class TestDriveReminderScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(TestDriveReminderScheduler.class);
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(1);
+
+    private final TestDriveRepository testDriveRepository;
+    private final TestDriveNotificationService notificationService;
+    private final TransactionTemplate transactionTemplate;
+    // Longest lead first; stage n means the first n reminders have been sent
+    private final Duration[] leads;
+    private final int batchSize;
+    private final HashedTimingWheel<Long, Reminder> wheel;
+    private final Counter sent;
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    public TestDriveReminderScheduler(TestDriveRepository testDriveRepository,
+                                      TestDriveNotificationService notificationService,
+                                      PlatformTransactionManager transactionManager,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${testdrive.reminders.leads:24h,1h}") Duration[] leads,
+                                      @Value("${testdrive.reminders.tick:10s}") Duration tick,
+                                      @Value("${testdrive.reminders.wheel-size:512}") int wheelSize,
+                                      @Value("${testdrive.reminders.batch-size:100}") int batchSize) {
+        this.testDriveRepository = testDriveRepository;
+        this.notificationService = notificationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.leads = Arrays.stream(leads).sorted(Comparator.reverseOrder()).toArray(Duration[]::new);
+        this.batchSize = batchSize;
+        this.wheel = new HashedTimingWheel<>(tick.toMillis(), wheelSize, System.currentTimeMillis());
+        Gauge.builder("testdrive.reminders.scheduled", wheel, HashedTimingWheel::size)
+                .description("Test drives with a reminder waiting in the timing wheel")
+                .register(meterRegistry);
+        this.sent = Counter.builder("testdrive.reminders.sent")
+                .description("Test drive reminder emails sent")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        List<TestDriveReminderEntry> entries = testDriveRepository.findReminderEntries(
+                TestDriveStatus.APPROVED, LocalDateTime.now(), leads.length);
+        entries.forEach(entry -> scheduleNext(entry.id(), entry.appointmentDate(), entry.reminderStage()));
+        logger.info("Reminder wheel loaded with {} upcoming test drives", wheel.size());
+    }
+
+    /**
+     * Schedules the next reminder of an approved booking and drops it for any other status.
+     */
+    public void onStatusChanged(TestDrive testDrive) {
+        if (testDrive.getStatus() == TestDriveStatus.APPROVED) {
+            scheduleNext(testDrive.getId(), testDrive.getAppointmentDate(), testDrive.getReminderStage());
+        } else {
+            wheel.cancel(testDrive.getId());
+        }
+    }
+
+    public void cancel(Long testDriveId) {
+        wheel.cancel(testDriveId);
+    }
+
+    private void scheduleNext(Long id, LocalDateTime appointmentDate, int sentStage) {
+        long appointment = appointmentDate.atZone(zone).toInstant().toEpochMilli();
+        long now = System.currentTimeMillis();
+        if (appointment <= now) {
+            wheel.cancel(id);
+            return;
+        }
+        for (int stage = sentStage + 1; stage <= leads.length; stage++) {
+            boolean laterAlsoDue = stage < leads.length && appointment - leads[stage].toMillis() <= now;
+            if (!laterAlsoDue) {
+                wheel.schedule(id, new Reminder(id, stage), appointment - leads[stage - 1].toMillis());
+                return;
+            }
+        }
+        wheel.cancel(id);
+    }
+
+    /**
+     * Runs on the shared scheduler, which logs anything thrown and keeps the schedule. Ticks
+     * before startup has loaded the wheel find it empty.
+     */
+    @Scheduled(fixedDelayString = "${testdrive.reminders.tick:10s}")
+    public void tick() {
+        List<Reminder> due = wheel.advance(System.currentTimeMillis());
+        for (int from = 0; from < due.size(); from += batchSize) {
+            List<Reminder> batch = due.subList(from, Math.min(due.size(), from + batchSize));
+            try {
+                dispatch(batch);
+            } catch (RuntimeException e) {
+                // Nothing in a failed batch was claimed, so it can simply be tried again
+                logger.warn("Reminder batch of {} failed, retrying in {}: {}", batch.size(), RETRY_DELAY, e.getMessage());
+                batch.forEach(this::retryLater);
+            }
+        }
+    }
+
+    private void retryLater(Reminder reminder) {
+        wheel.schedule(reminder.testDriveId(), reminder, System.currentTimeMillis() + RETRY_DELAY.toMillis());
+    }
+
+    /**
+     * Claims the batch in one transaction, loads the claimed bookings with their cars and
+     * customers in one query, then sends per reminder stage and schedules what comes next.
+     * Claims of failed sends are released in one more transaction and retried.
+     */
+    private void dispatch(List<Reminder> batch) {
+        Map<Long, Reminder> byId = batch.stream()
+                .collect(Collectors.toMap(Reminder::testDriveId, Function.identity()));
+        List<TestDrive> claimed = transactionTemplate.execute(status -> {
+            List<Long> ids = batch.stream()
+                    .filter(reminder -> testDriveRepository.claimReminder(
+                            reminder.testDriveId(), reminder.stage(), TestDriveStatus.APPROVED) == 1)
+                    .map(Reminder::testDriveId)
+                    .toList();
+            return ids.isEmpty() ? List.of() : testDriveRepository.findAllWithCarAndCustomerByIdIn(ids);
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+        Map<Integer, List<TestDrive>> byStage = claimed.stream()
+                .collect(Collectors.groupingBy(testDrive -> byId.get(testDrive.getId()).stage()));
+        List<TestDrive> failed = new ArrayList<>();
+        byStage.forEach((stage, testDrives) ->
+                failed.addAll(notificationService.sendReminders(testDrives, describe(leads[stage - 1]))));
+        sent.increment(claimed.size() - failed.size());
+        claimed.stream()
+                .filter(testDrive -> !failed.contains(testDrive))
+                .forEach(testDrive -> scheduleNext(
+                        testDrive.getId(), testDrive.getAppointmentDate(), byId.get(testDrive.getId()).stage()));
+        if (!failed.isEmpty()) {
+            release(failed, byId);
+        }
+    }
+
+    /**
+     * Moves the stage of unsent reminders back so a retry can claim them again, for as long
+     * as the appointment is ahead. If that fails as well, the reminders are dropped rather
+     * than risking a duplicate.
+     */
+    private void release(List<TestDrive> failed, Map<Long, Reminder> byId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> failed.forEach(testDrive ->
+                    testDriveRepository.releaseReminder(testDrive.getId(), byId.get(testDrive.getId()).stage())));
+        } catch (RuntimeException e) {
+            logger.error("Could not release {} unsent reminders, dropping them: {}", failed.size(), e.getMessage());
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        failed.stream()
+                .filter(testDrive -> testDrive.getAppointmentDate().isAfter(now))
+                .forEach(testDrive -> retryLater(byId.get(testDrive.getId())));
+    }
+
+    private static String describe(Duration lead) {
+        if (lead.toMinutesPart() == 0 && lead.toHours() > 0) {
+            return lead.toHours() == 1 ? "1 hour" : lead.toHours() + " hours";
+        }
+        return lead.toMinutes() == 1 ? "1 minute" : lead.toMinutes() + " minutes";
+    }
+
+    private record Reminder(Long testDriveId, int stage) {
+    }
+}
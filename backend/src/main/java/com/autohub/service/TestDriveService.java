@@ -1,51 +1,113 @@
 package com.autohub.service;
 
+import com.autohub.catalog.TestDriveSlotIndex;
+import com.autohub.dto.testdrive.TestDriveCursor;
+import com.autohub.dto.testdrive.TestDriveQueueFilter;
 import com.autohub.dto.testdrive.TestDriveRequest;
+import com.autohub.dto.testdrive.TestDriveScope;
 import com.autohub.entity.AppUser;
 import com.autohub.entity.Car;
 import com.autohub.entity.TestDrive;
 import com.autohub.entity.TestDriveStatus;
+import com.autohub.event.TestDriveSlotChangedEvent;
 import com.autohub.event.TestDriveStatusChangedEvent;
 import com.autohub.repository.AppUserRepository;
 import com.autohub.repository.CarRepository;
 import com.autohub.repository.TestDriveRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
 
 @Service
 public class TestDriveService {
 
+    // Range of a MySQL DATETIME, standing in for an open bound
+
     private final TestDriveRepository testDriveRepository;
     private final CarRepository carRepository;
     private final AppUserRepository appUserRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final TestDriveNotificationService notificationService;
+    private final TestDriveSlotIndex slotIndex;
+    private final CarBookingLocks bookingLocks;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxBookingsPageSize;
+    private final int maxQueuePageSize;
 
     public TestDriveService(TestDriveRepository testDriveRepository,
                             CarRepository carRepository,
                             AppUserRepository appUserRepository,
                             ApplicationEventPublisher eventPublisher,
-                            TestDriveNotificationService notificationService) {
+                            TestDriveNotificationService notificationService,
+                            TestDriveSlotIndex slotIndex,
+                            CarBookingLocks bookingLocks,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${testdrive.bookings.max-page-size:100}") int maxBookingsPageSize,
+                            @Value("${testdrive.queue.max-page-size:200}") int maxQueuePageSize) {
         this.testDriveRepository = testDriveRepository;
         this.carRepository = carRepository;
         this.appUserRepository = appUserRepository;
         this.eventPublisher = eventPublisher;
         this.notificationService = notificationService;
+        this.slotIndex = slotIndex;
+        this.bookingLocks = bookingLocks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxBookingsPageSize = maxBookingsPageSize;
+        this.maxQueuePageSize = maxQueuePageSize;
     }
 
-    @Transactional
+    /**
+     * Books a slot, serialized per car: the stripe lock is held until the insert has
+     * committed and the slot index has been updated, so the next booking for the car sees
+     * it in memory. The unique slot constraint still backs this up across instances and
+     * surfaces as a {@link BookingConflictException} too.
+     */
     public TestDrive bookTestDrive(TestDriveRequest request, String customerEmail) {
+        if (!slotIndex.isSlotStart(request.appointmentDate())) {
+            throw new IllegalArgumentException(
+                    "Appointments start on a " + slotIndex.slotMinutes() + "-minute boundary");
+        }
+        // Taken slots are answered from memory, before any lock or database work
+        if (slotIndex.isBooked(request.carId(), request.appointmentDate())) {
+            throw new BookingConflictException("Car already booked for that slot");
+        }
+        ReentrantLock lock = bookingLocks.acquire(request.carId());
+        try {
+            return transactionTemplate.execute(status -> insertBooking(request, customerEmail));
+        } catch (DataIntegrityViolationException e) {
+            throw new BookingConflictException("Car already booked for that slot");
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private TestDrive insertBooking(TestDriveRequest request, String customerEmail) {
+        // Re-checked under the lock: a booking that just committed is in the index by now
+        if (slotIndex.isBooked(request.carId(), request.appointmentDate())) {
+            throw new BookingConflictException("Car already booked for that slot");
+        }
         Car car = carRepository.findByIdAndDeletedFalseAndStatus(request.carId(), com.autohub.entity.CarStatus.AVAILABLE)
                 .orElseThrow(() -> new IllegalArgumentException("Car not available"));
         AppUser customer = appUserRepository.findByEmail(customerEmail)
                 .orElseThrow(() -> new IllegalArgumentException("Customer not found"));
 
-        if (testDriveRepository.existsByCarIdAndAppointmentDateAndStatusNot(
+        if (!slotIndex.covers(request.appointmentDate())
+                && testDriveRepository.existsByCarIdAndAppointmentDateAndStatusNot(
                 car.getId(), request.appointmentDate(), TestDriveStatus.REJECTED)) {
-            throw new IllegalArgumentException("Car already booked for that slot");
+            throw new BookingConflictException("Car already booked for that slot");
         }
 
         TestDrive testDrive = new TestDrive();
@@ -53,43 +115,70 @@ public class TestDriveService {
         testDrive.setCustomer(customer);
         testDrive.setAppointmentDate(request.appointmentDate());
         testDrive.setStatus(TestDriveStatus.PENDING);
-        return testDriveRepository.save(testDrive);
+        TestDrive saved = testDriveRepository.saveAndFlush(testDrive);
+        eventPublisher.publishEvent(
+                new TestDriveSlotChangedEvent(saved.getId(), car.getId(), saved.getAppointmentDate(), true));
+        return saved;
     }
 
+    /**
+     * Admin queue page, newest appointment first, continuing after {@code after}. One
+     * query fetches the bookings with their cars and customers; one extra row tells
+     * whether another page follows. {@code size} is capped at
+     * {@code testdrive.queue.max-page-size}.
+     */
     @Transactional(readOnly = true)
-    public List<TestDrive> getAllTestDrives() {
-        List<TestDrive> testDrives = testDriveRepository.findAll();
-        // Force initialization of lazy-loaded relationships to avoid LazyInitializationException
-        testDrives.forEach(td -> {
-            // Initialize car relationship
-            if (td.getCar() != null) {
-                td.getCar().getId();
-                td.getCar().getMake();
-                td.getCar().getModel();
-            }
-            // Initialize customer relationship
-            if (td.getCustomer() != null) {
-                td.getCustomer().getId();
-                td.getCustomer().getEmail();
-                td.getCustomer().getFullName();
-            }
-        });
-        return testDrives;
+    public Slice<TestDrive> getTestDriveQueue(TestDriveQueueFilter filter, TestDriveCursor after, int requestedSize) {
+        int size = Math.clamp(requestedSize, 1, maxQueuePageSize);
+        List<TestDrive> rows = testDriveRepository.findQueueSlice(filter, after, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<TestDrive> content = hasNext ? rows.subList(0, size) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
     }
 
-    public List<TestDrive> getMyTestDrives(String customerEmail) {
+    /**
+     * Bookings still awaiting or holding their appointment, across the whole queue.
+     */
+    @Transactional(readOnly = true)
+    public long countActiveTestDrives() {
+        return testDriveRepository.countByStatusIn(List.of(TestDriveStatus.PENDING, TestDriveStatus.APPROVED));
+    }
+
+    /**
+     * One page of the customer's bookings: upcoming ones soonest first, past ones and the
+     * full history most recent first. {@code size} is capped at
+     * {@code testdrive.bookings.max-page-size}.
+     */
+    @Transactional(readOnly = true)
+    public Page<TestDrive> getMyTestDrives(String customerEmail, TestDriveScope scope, int page, int size) {
         AppUser customer = appUserRepository.findByEmail(customerEmail)
                 .orElseThrow(() -> new IllegalArgumentException("Customer not found"));
-        return testDriveRepository.findAll().stream()
-                .filter(td -> td.getCustomer().getId().equals(customer.getId()))
-                .toList();
+        LocalDateTime now = LocalDateTime.now();
+        Sort.Direction direction = scope == TestDriveScope.UPCOMING ? Sort.Direction.ASC : Sort.Direction.DESC;
+        PageRequest pageable = PageRequest.of(page, Math.clamp(size, 1, maxBookingsPageSize),
+                Sort.by(direction, "appointmentDate", "id"));
+        return switch (scope) {
+            case UPCOMING -> testDriveRepository.findByCustomerIdAndAppointmentDateGreaterThanEqual(
+                    customer.getId(), now, pageable);
+            case PAST -> testDriveRepository.findByCustomerIdAndAppointmentDateLessThan(customer.getId(), now, pageable);
+            case ALL -> testDriveRepository.findByCustomerId(customer.getId(), pageable);
+        };
     }
 
     @Transactional
     public TestDrive updateStatus(Long id, TestDriveStatus status) {
         TestDrive testDrive = testDriveRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Test drive not found"));
+        boolean wasRejected = testDrive.getStatus() == TestDriveStatus.REJECTED;
+        if (wasRejected && status != TestDriveStatus.REJECTED
+                && testDriveRepository.existsByCarIdAndAppointmentDateAndStatusNot(
+                testDrive.getCar().getId(), testDrive.getAppointmentDate(), TestDriveStatus.REJECTED)) {
+            throw new BookingConflictException("Car already booked for that slot");
+        }
         testDrive.setStatus(status);
+        if (wasRejected != (status == TestDriveStatus.REJECTED)) {
+            publishSlotChange(testDrive, wasRejected);
+        }
         eventPublisher.publishEvent(new TestDriveStatusChangedEvent(testDrive));
         return testDrive;
     }
@@ -111,8 +200,15 @@ public class TestDriveService {
         
         testDrive.setStatus(TestDriveStatus.REJECTED);
         testDriveRepository.save(testDrive);
+        publishSlotChange(testDrive, false);
         
         // Send cancellation email notification (async)
         notificationService.notifyCancellation(testDrive);
     }
+
+    private void publishSlotChange(TestDrive testDrive, boolean booked) {
+        eventPublisher.publishEvent(
+                new TestDriveSlotChangedEvent(testDrive.getId(), testDrive.getCar().getId(),
+                        testDrive.getAppointmentDate(), booked));
+    }
 }
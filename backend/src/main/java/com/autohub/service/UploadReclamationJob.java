@@ -0,0 +1,242 @@
+package com.autohub.service;
+
+import com.autohub.entity.ImageRendition;
+import com.autohub.repository.CarImageRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Removes upload files no {@code car_images} row points at: blobs from uploads whose
+ * transaction rolled back, deletions lost in a restart, and abandoned temporary files.
+ *
+ * The upload directory is walked lazily and checked against the database in batches of
+ * {@code storage.reclamation.batch-size}, so memory stays flat however many files there
+ * are. Only files untouched for {@code storage.reclamation.grace} are candidates, which
+ * leaves uploads whose rows are not committed yet alone. Renditions are removed together
+ * with their original, or on their own once the original is gone (a rendition finishing
+ * after its original was deleted). Reclaimed files and bytes and the run duration are published as
+ * {@code uploads.reclaimed.*} and {@code uploads.reclamation.duration}.
+ */
+@Component
+public class UploadReclamationJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadReclamationJob.class);
+    private static final List<String> RENDITION_SUFFIXES = List.of(ImageRendition.values()).stream()
+            .map(rendition -> "." + rendition.key() + ".jpg")
+            .toList();
+
+    private final FileService fileService;
+    private final CarImageRepository carImageRepository;
+    private final Duration grace;
+    private final int batchSize;
+    private final Counter reclaimedFiles;
+    private final Counter reclaimedBytes;
+    private final Timer duration;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public UploadReclamationJob(FileService fileService,
+                                CarImageRepository carImageRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${storage.reclamation.grace:24h}") Duration grace,
+                                @Value("${storage.reclamation.batch-size:500}") int batchSize) {
+        this.fileService = fileService;
+        this.carImageRepository = carImageRepository;
+        this.grace = grace;
+        this.batchSize = batchSize;
+        this.reclaimedFiles = Counter.builder("uploads.reclaimed.files")
+                .description("Orphaned upload files removed by the reclamation job")
+                .register(meterRegistry);
+        this.reclaimedBytes = Counter.builder("uploads.reclaimed.bytes")
+                .description("Disk space freed by the reclamation job, renditions included")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.duration = Timer.builder("uploads.reclamation.duration")
+                .description("Time taken by a reclamation run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${storage.reclamation.cron:0 30 3 * * *}")
+    public void reclaim() {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("Upload reclamation still running, skipping this run");
+            return;
+        }
+        try {
+            duration.record(this::walk);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void walk() {
+        Path root = fileService.uploadRoot();
+        Instant cutoff = Instant.now().minus(grace);
+        long files = 0;
+        long bytes = 0;
+        OriginalStems originals = new OriginalStems();
+        try (Stream<Path> paths = Files.walk(root)) {
+            Iterator<Path> iterator = paths.filter(Files::isRegularFile).iterator();
+            List<Path> batch = new ArrayList<>(batchSize);
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() >= batchSize || !iterator.hasNext()) {
+                    long[] freed = reclaimBatch(root, batch, cutoff, originals);
+                    files += freed[0];
+                    bytes += freed[1];
+                    reclaimedFiles.increment(freed[0]);
+                    reclaimedBytes.increment(freed[1]);
+                    batch.clear();
+                }
+            }
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("Upload reclamation stopped early: {}", e.getMessage());
+        }
+        if (files > 0) {
+            logger.info("Reclaimed {} orphaned upload files ({} bytes)", files, bytes);
+        }
+    }
+
+    /**
+     * Deletes the orphans among {@code batch}, returning the number of files and bytes freed.
+     */
+    private long[] reclaimBatch(Path root, List<Path> batch, Instant cutoff, OriginalStems originals) {
+        List<Path> candidates = new ArrayList<>(batch.size());
+        Set<String> lookup = new HashSet<>();
+        long files = 0;
+        long bytes = 0;
+        for (Path file : batch) {
+            String name = file.getFileName().toString();
+            if (!olderThan(file, cutoff)) {
+                continue;
+            }
+            if (isRendition(name)) {
+                if (!originals.contains(file.getParent(), renditionStem(name))) {
+                    bytes += delete(file);
+                    files++;
+                }
+                continue;
+            }
+            if (name.startsWith(".")) {
+                // Temporary file of an upload or rendition that never finished
+                bytes += delete(file);
+                files++;
+                continue;
+            }
+            candidates.add(file);
+            lookup.add(relative(root, file));
+            // A sharded file may still be referenced by its flat pre-migration name
+            lookup.add(name);
+        }
+        if (candidates.isEmpty()) {
+            return new long[]{files, bytes};
+        }
+        Set<String> referenced = new HashSet<>(carImageRepository.findImagePathsIn(lookup));
+        for (Path file : candidates) {
+            String relativePath = relative(root, file);
+            boolean flatAlias = relativePath.indexOf('/') >= 0 && referenced.contains(file.getFileName().toString());
+            if (referenced.contains(relativePath) || flatAlias) {
+                continue;
+            }
+            bytes += delete(file);
+            for (ImageRendition rendition : ImageRendition.values()) {
+                bytes += delete(root.resolve(rendition.pathFor(relativePath)));
+            }
+            files++;
+        }
+        return new long[]{files, bytes};
+    }
+
+    private static boolean isRendition(String name) {
+        return RENDITION_SUFFIXES.stream().anyMatch(name::endsWith);
+    }
+
+    /**
+     * Name of the original a rendition was made from, without its extension, which
+     * {@link ImageRendition#pathFor} drops.
+     */
+    private static String renditionStem(String name) {
+        String suffix = RENDITION_SUFFIXES.stream().filter(name::endsWith).findFirst().orElseThrow();
+        return name.substring(0, name.length() - suffix.length());
+    }
+
+    /**
+     * Extension-less names of the originals in one directory. Renditions sit next to their
+     * original and the walk visits a directory's files together, so each directory is
+     * listed once.
+     */
+    private static final class OriginalStems {
+
+        private Path directory;
+        private Set<String> stems = Set.of();
+
+        boolean contains(Path directory, String stem) {
+            if (!directory.equals(this.directory)) {
+                this.directory = directory;
+                this.stems = list(directory);
+            }
+            return stems == null || stems.contains(stem);
+        }
+
+        private static Set<String> list(Path directory) {
+            Set<String> stems = new HashSet<>();
+            try (Stream<Path> files = Files.list(directory)) {
+                files.map(file -> file.getFileName().toString())
+                        .filter(name -> !name.startsWith(".") && !isRendition(name))
+                        .forEach(name -> {
+                            int dot = name.lastIndexOf('.');
+                            stems.add(dot > 0 ? name.substring(0, dot) : name);
+                        });
+            } catch (IOException | UncheckedIOException e) {
+                // Unknown originals: keep every rendition in this directory
+                return null;
+            }
+            return stems;
+        }
+    }
+
+    private static boolean olderThan(Path file, Instant cutoff) {
+        try {
+            return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private static String relative(Path root, Path file) {
+        return root.relativize(file).toString().replace('\\', '/');
+    }
+
+    /**
+     * Deletes {@code file} if present, returning its size.
+     */
+    private static long delete(Path file) {
+        try {
+            long size = Files.size(file);
+            Files.delete(file);
+            return size;
+        } catch (IOException e) {
+            logger.debug("Could not reclaim {}: {}", file, e.getMessage());
+            return 0;
+        }
+    }
+}
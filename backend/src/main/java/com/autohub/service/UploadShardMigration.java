@@ -0,0 +1,125 @@
+package com.autohub.service;
+
+import com.autohub.entity.ImageRendition;
+import com.autohub.repository.CarImageRepository;
+import com.autohub.repository.CarRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves uploads stored flat in the upload root into the sharded layout, while the
+ * application keeps serving.
+ *
+ * Each batch first moves the files (with their renditions) and then rewrites the
+ * referencing {@code car_images.image_path} and {@code cars.primary_image_path} values in
+ * one short transaction. In between, {@link FileService#resolve} still finds a moved file
+ * under its flat name, so readers never miss it. Migrated rows stop matching the flat-path
+ * query, which makes the job safe to interrupt and rerun; a file already moved by an
+ * earlier interrupted run only needs its rows rewritten.
+ */
+@Component
+public class UploadShardMigration {
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadShardMigration.class);
+
+    private final FileService fileService;
+    private final CarImageRepository carImageRepository;
+    private final CarRepository carRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    public UploadShardMigration(FileService fileService,
+                                CarImageRepository carImageRepository,
+                                CarRepository carRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${storage.sharding.migrate-on-startup:true}") boolean enabled,
+                                @Value("${storage.sharding.batch-size:200}") int batchSize) {
+        this.fileService = fileService;
+        this.carImageRepository = carImageRepository;
+        this.carRepository = carRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @Async("startupJobExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+        String after = "";
+        long migrated = 0;
+        List<String> batch;
+        while (!(batch = carImageRepository.findFlatImagePaths(after, PageRequest.of(0, batchSize))).isEmpty()) {
+            List<String> moved = new ArrayList<>(batch.size());
+            for (String flatPath : batch) {
+                try {
+                    if (moveToShard(flatPath)) {
+                        moved.add(flatPath);
+                    }
+                } catch (IOException e) {
+                    logger.warn("Could not move {} into its shard: {}", flatPath, e.getMessage());
+                }
+            }
+            transactionTemplate.executeWithoutResult(status -> moved.forEach(flatPath -> {
+                String shardedPath = FileService.shardedPath(flatPath);
+                carImageRepository.updateImagePath(flatPath, shardedPath);
+                carRepository.updatePrimaryImagePath(flatPath, shardedPath);
+            }));
+            migrated += moved.size();
+            after = batch.get(batch.size() - 1);
+            logger.info("Upload shard migration: {} files moved so far", migrated);
+        }
+        if (migrated > 0) {
+            logger.info("Upload shard migration finished: {} files moved", migrated);
+        }
+    }
+
+    /**
+     * @return {@code true} when the file now sits at its sharded location, {@code false}
+     *         when it exists in neither place and its rows are left alone
+     */
+    private boolean moveToShard(String flatPath) throws IOException {
+        String shardedPath = FileService.shardedPath(flatPath);
+        boolean present = move(flatPath, shardedPath);
+        for (ImageRendition rendition : ImageRendition.values()) {
+            move(rendition.pathFor(flatPath), rendition.pathFor(shardedPath));
+        }
+        if (!present) {
+            logger.warn("Upload {} is missing, its rows keep the flat path", flatPath);
+        }
+        return present;
+    }
+
+    private boolean move(String fromPath, String toPath) throws IOException {
+        Path source = fileService.resolve(fromPath);
+        Path target = fileService.resolve(toPath);
+        if (source.equals(target)) {
+            // resolve() already follows a flat name to its shard: moved by an earlier run
+            return Files.exists(target);
+        }
+        if (!Files.exists(source)) {
+            return Files.exists(target);
+        }
+        Files.createDirectories(target.getParent());
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        return true;
+    }
+}
@@ -0,0 +1,100 @@
+package com.autohub.catalog;
+
+import com.autohub.dto.car.CarFilter;
+import com.autohub.entity.CarStatus;
+import com.autohub.entity.FuelType;
+import com.autohub.entity.TransmissionType;
+import com.autohub.repository.CarRepository;
+import com.autohub.support.Benchmarks;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Listing filters answered by {@link CarColumnarSnapshot} over a synthetic catalog of
+ * {@code -Dbenchmark.cars} cars (one million by default). Logs latency per filter shape
+ * and checks each total against a plain scan of the same rows.
+ */
+@Tag(Benchmarks.TAG)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class CarColumnarSnapshotBenchmark {
+
+    // The largest size when -Dbenchmark.cars lists several
+    private static final int CARS = Arrays.stream(Benchmarks.catalogSizes(1_000_000)).max().getAsInt();
+    private static final int WARMUPS = 50;
+    private static final int RUNS = 200;
+
+    private final List<CarFacetEntry> rows = new ArrayList<>(CARS);
+    private CarColumnarSnapshot snapshot;
+
+    @BeforeAll
+    void setUp() {
+        Random random = new Random(42);
+        TransmissionType[] transmissions = TransmissionType.values();
+        FuelType[] fuelTypes = FuelType.values();
+        for (long id = 1; id <= CARS; id++) {
+            rows.add(new CarFacetEntry(id, "Make", "Model", 1995 + random.nextInt(30),
+                    BigDecimal.valueOf(2_000_00L + random.nextInt(150_000_00), 2),
+                    transmissions[random.nextInt(transmissions.length)],
+                    fuelTypes[random.nextInt(fuelTypes.length)]));
+        }
+        CarRepository repository = mock(CarRepository.class);
+        when(repository.findAllFacetEntries(CarStatus.AVAILABLE)).thenReturn(rows);
+        snapshot = new CarColumnarSnapshot(repository, true);
+        snapshot.rebuild();
+    }
+
+    @Test
+    void selectiveFilterSortedByPrice() {
+        run("selective, price desc",
+                new CarFilter(null, null, 2020, TransmissionType.AUTOMATIC, null,
+                        BigDecimal.valueOf(20_000), BigDecimal.valueOf(40_000)),
+                "price", Sort.Direction.DESC);
+    }
+
+    @Test
+    void priceRangeSortedById() {
+        run("price range, id asc",
+                new CarFilter(null, null, null, null, null, BigDecimal.valueOf(30_000), BigDecimal.valueOf(35_000)),
+                "id", Sort.Direction.ASC);
+    }
+
+    @Test
+    void unfilteredSortedById() {
+        run("unfiltered, id asc",
+                new CarFilter(null, null, null, null, null, null, null),
+                "id", Sort.Direction.ASC);
+    }
+
+    private void run(String name, CarFilter filter, String sortBy, Sort.Direction direction) {
+        ColumnarPage first = snapshot.select(filter, null, sortBy, direction, 0, 12);
+        assertThat(first).isNotNull();
+        assertThat(first.total()).isEqualTo(expectedTotal(filter));
+
+        long[] nanos = Benchmarks.time(WARMUPS, RUNS,
+                () -> snapshot.select(filter, null, sortBy, direction, 24, 12));
+        Benchmarks.report("columnar " + CARS + " cars, " + name, nanos, "matches=" + first.total());
+    }
+
+    private long expectedTotal(CarFilter filter) {
+        return rows.stream()
+                .filter(row -> filter.year() == null || row.year() == filter.year())
+                .filter(row -> filter.transmission() == null || row.transmission() == filter.transmission())
+                .filter(row -> filter.fuelType() == null || row.fuelType() == filter.fuelType())
+                .filter(row -> filter.minPrice() == null || row.price().compareTo(filter.minPrice()) >= 0)
+                .filter(row -> filter.maxPrice() == null || row.price().compareTo(filter.maxPrice()) <= 0)
+                .count();
+    }
+}
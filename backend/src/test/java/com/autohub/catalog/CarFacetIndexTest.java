@@ -0,0 +1,90 @@
+package com.autohub.catalog;
+
+import com.autohub.dto.car.CarFacetsResponse;
+import com.autohub.dto.car.CarFilter;
+import com.autohub.entity.Car;
+import com.autohub.entity.CarStatus;
+import com.autohub.entity.FuelType;
+import com.autohub.entity.TransmissionType;
+import com.autohub.repository.CarRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CarFacetIndexTest {
+
+    private final CarRepository repository = mock(CarRepository.class);
+    private final CarFacetIndex index = new CarFacetIndex(repository,
+            new BigDecimal[]{BigDecimal.valueOf(10_000), BigDecimal.valueOf(20_000)});
+
+    @BeforeEach
+    void setUp() {
+        when(repository.findAllFacetEntries(CarStatus.AVAILABLE)).thenReturn(List.of(
+                entry(1L, "Toyota", 8_000),
+                entry(2L, "Toyota", 12_000),
+                entry(3L, "Toyota", 18_000),
+                entry(4L, "Honda", 15_000),
+                entry(5L, "Honda", 25_000)));
+        index.rebuild();
+    }
+
+    @Test
+    void priceBoundsInsideABucketCountExactPrices() {
+        CarFacetsResponse facets = index.facets(filter(BigDecimal.valueOf(13_000), BigDecimal.valueOf(16_000)));
+
+        assertThat(facets.total()).isEqualTo(1);
+        assertThat(facets.makes()).containsOnlyKeys("Honda").containsEntry("Honda", 1L);
+    }
+
+    @Test
+    void priceBoundsAcrossBucketsMixWholeAndPartialBuckets() {
+        CarFacetsResponse facets = index.facets(filter(BigDecimal.valueOf(5_000), BigDecimal.valueOf(16_000)));
+
+        assertThat(facets.total()).isEqualTo(3);
+        assertThat(facets.makes()).containsEntry("Toyota", 2L).containsEntry("Honda", 1L);
+        // The price facet ignores the price filter
+        assertThat(facets.priceBuckets()).extracting(CarFacetsResponse.PriceBucket::count)
+                .containsExactly(1L, 3L, 1L);
+    }
+
+    @Test
+    void boundsAreInclusive() {
+        assertThat(index.facets(filter(BigDecimal.valueOf(12_000), BigDecimal.valueOf(12_000))).total()).isEqualTo(1);
+        assertThat(index.facets(filter(BigDecimal.valueOf(18_000), null)).total()).isEqualTo(2);
+    }
+
+    @Test
+    void updatesMoveCarsBetweenPriceBuckets() {
+        index.update(car(2L, "Toyota", 22_000));
+
+        assertThat(index.facets(filter(BigDecimal.valueOf(11_000), BigDecimal.valueOf(13_000))).total()).isZero();
+        assertThat(index.facets(filter(BigDecimal.valueOf(21_000), BigDecimal.valueOf(23_000))).total()).isEqualTo(1);
+    }
+
+    private static CarFilter filter(BigDecimal minPrice, BigDecimal maxPrice) {
+        return new CarFilter(null, null, null, null, null, minPrice, maxPrice);
+    }
+
+    private static CarFacetEntry entry(Long id, String make, long price) {
+        return new CarFacetEntry(id, make, "Model", 2022, BigDecimal.valueOf(price),
+                TransmissionType.AUTOMATIC, FuelType.GASOLINE);
+    }
+
+    private static Car car(Long id, String make, long price) {
+        Car car = new Car();
+        car.setId(id);
+        car.setMake(make);
+        car.setModel("Model");
+        car.setYear(2022);
+        car.setPrice(BigDecimal.valueOf(price));
+        car.setTransmission(TransmissionType.AUTOMATIC);
+        car.setFuelType(FuelType.GASOLINE);
+        return car;
+    }
+}
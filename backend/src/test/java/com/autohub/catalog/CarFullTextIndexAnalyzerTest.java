@@ -0,0 +1,47 @@
+package com.autohub.catalog;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CarFullTextIndexAnalyzerTest {
+
+    @Test
+    void stemStripsPluralsAndVerbSuffixes() {
+        assertThat(CarFullTextIndex.stem("families")).isEqualTo("family");
+        assertThat(CarFullTextIndex.stem("classes")).isEqualTo("class");
+        assertThat(CarFullTextIndex.stem("seats")).isEqualTo("seat");
+        assertThat(CarFullTextIndex.stem("loaded")).isEqualTo("load");
+        assertThat(CarFullTextIndex.stem("towing")).isEqualTo("tow");
+    }
+
+    @Test
+    void stemKeepsWordsThatOnlyLookPlural() {
+        assertThat(CarFullTextIndex.stem("class")).isEqualTo("class");
+        assertThat(CarFullTextIndex.stem("status")).isEqualTo("status");
+        assertThat(CarFullTextIndex.stem("chassis")).isEqualTo("chassis");
+    }
+
+    @Test
+    void stemLeavesShortAndNumericTokensAlone() {
+        assertThat(CarFullTextIndex.stem("bus")).isEqualTo("bus");
+        assertThat(CarFullTextIndex.stem("4x4s")).isEqualTo("4x4s");
+    }
+
+    @Test
+    void singularAndPluralMeet() {
+        assertThat(CarFullTextIndex.stem("families")).isEqualTo(CarFullTextIndex.stem("family"));
+    }
+
+    @Test
+    void analyzeLowercasesSplitsDropsStopWordsAndStems() {
+        assertThat(CarFullTextIndex.analyze("The Family SUVs, with 7 seats!"))
+                .containsExactly("family", "suv", "7", "seat");
+    }
+
+    @Test
+    void analyzeOfBlankTextIsEmpty() {
+        assertThat(CarFullTextIndex.analyze(null)).isEmpty();
+        assertThat(CarFullTextIndex.analyze("   ")).isEmpty();
+    }
+}
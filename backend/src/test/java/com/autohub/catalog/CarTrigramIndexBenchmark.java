@@ -0,0 +1,109 @@
+package com.autohub.catalog;
+
+import com.autohub.dto.car.CarFilter;
+import com.autohub.entity.Car;
+import com.autohub.repository.CarRepository;
+import com.autohub.repository.CarSpecifications;
+import com.autohub.support.Benchmarks;
+import com.autohub.support.CarSeeder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * First page of the public listing filtered by make/model fragments, answered with the
+ * LIKE '%x%' predicates and with {@link CarTrigramIndex} ids, at 100k and 1M cars
+ * ({@code -Dbenchmark.cars} to change). Also times the index lookup on its own. Both
+ * paths must report the same total. Match sets above {@code catalog.search.max-id-filter}
+ * are still timed by id but flagged, since the service queries those with LIKE.
+ */
+@Tag(Benchmarks.TAG)
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(CarTrigramIndex.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CarTrigramIndexBenchmark {
+
+    private static final int WARMUPS = 3;
+    private static final int RUNS = 20;
+    // Default of catalog.search.max-id-filter: larger match sets are queried with LIKE anyway
+    private static final int MAX_ID_FILTER = 10_000;
+    private static final Pageable FIRST_PAGE = PageRequest.of(0, 12, Sort.by("id"));
+    private static final List<CarFilter> FILTERS = List.of(
+            new CarFilter("maz", "cx", null, null, null, null, null),
+            new CarFilter(null, "series", null, null, null, null, null),
+            new CarFilter("volvo", "xc6", 2018, null, null, null, null),
+            new CarFilter("tesla", null, null, null, null, null, null));
+
+    @Autowired
+    private CarTrigramIndex trigramIndex;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM cars");
+    }
+
+    @Test
+    void trigramIdsAgainstLike() {
+        int seeded = 0;
+        for (int cars : Benchmarks.catalogSizes(100_000, 1_000_000)) {
+            CarSeeder.seed(jdbcTemplate, seeded, cars);
+            seeded = cars;
+            trigramIndex.rebuild();
+            for (CarFilter filter : FILTERS) {
+                compare(cars, filter);
+            }
+        }
+    }
+
+    private void compare(int cars, CarFilter filter) {
+        String name = cars + " cars make=" + filter.make() + " model=" + filter.model()
+                + (filter.year() != null ? " year=" + filter.year() : "");
+
+        long likeTotal = like(filter).getTotalElements();
+        Benchmarks.report("LIKE    " + name, Benchmarks.time(WARMUPS, RUNS, () -> like(filter)),
+                "matches=" + likeTotal);
+
+        Set<Long> ids = trigramIndex.search(filter.make(), filter.model());
+        Benchmarks.report("lookup  " + name, Benchmarks.time(WARMUPS, RUNS * 10,
+                () -> trigramIndex.search(filter.make(), filter.model())), "ids=" + ids.size());
+        assertThat(byIds(filter, ids).getTotalElements()).isEqualTo(likeTotal);
+        Benchmarks.report("trigram " + name, Benchmarks.time(WARMUPS, RUNS,
+                () -> byIds(filter, trigramIndex.search(filter.make(), filter.model()))),
+                "matches=" + likeTotal + (ids.size() > MAX_ID_FILTER ? " (over max-id-filter, served by LIKE)" : ""));
+    }
+
+    private Page<Car> like(CarFilter filter) {
+        return carRepository.findAll(CarSpecifications.publicListingSpec(filter), FIRST_PAGE);
+    }
+
+    private Page<Car> byIds(CarFilter filter, Set<Long> ids) {
+        if (ids.isEmpty()) {
+            return Page.empty(FIRST_PAGE);
+        }
+        return carRepository.findAll(CarSpecifications.publicListingSpec(filter.withoutMakeAndModel())
+                .and(CarSpecifications.idIn(ids)), FIRST_PAGE);
+    }
+}
@@ -0,0 +1,99 @@
+package com.autohub.catalog;
+
+import com.autohub.entity.TestDriveStatus;
+import com.autohub.repository.TestDriveRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TestDriveSlotIndexTest {
+
+    private static final long CAR = 1L;
+    private static final long OTHER_CAR = 2L;
+
+    private final TestDriveRepository repository = mock(TestDriveRepository.class);
+    // 30-minute slots over one week: 336 slots, rounded up to 384 bits
+    private final TestDriveSlotIndex index = new TestDriveSlotIndex(repository, 30, 1);
+    private LocalDateTime today;
+
+    @BeforeEach
+    void setUp() {
+        today = LocalDate.now().atStartOfDay();
+    }
+
+    @Test
+    void slotStartsFollowTheGrid() {
+        assertThat(index.isSlotStart(today.withHour(10).withMinute(30))).isTrue();
+        assertThat(index.isSlotStart(today.withHour(10).withMinute(15))).isFalse();
+        assertThat(index.isSlotStart(today.withHour(10).withMinute(30).withSecond(1))).isFalse();
+    }
+
+    @Test
+    void rebuildLoadsBookedSlotsFromTheRepository() {
+        LocalDateTime slot = today.plusDays(1).withHour(10);
+        when(repository.findBookedSlots(any(), any(), eq(TestDriveStatus.REJECTED)))
+                .thenReturn(List.of(new TestDriveSlot(CAR, slot)));
+
+        index.rebuild();
+
+        assertThat(index.isBooked(CAR, slot)).isTrue();
+        assertThat(index.isBooked(CAR, slot.plusMinutes(29))).isTrue();
+        assertThat(index.isBooked(CAR, slot.plusMinutes(30))).isFalse();
+        assertThat(index.isBooked(OTHER_CAR, slot)).isFalse();
+    }
+
+    @Test
+    void updatesBookAndFreeSlots() {
+        LocalDateTime slot = today.plusDays(2).withHour(9);
+
+        index.update(CAR, slot, true);
+        assertThat(index.isBooked(CAR, slot)).isTrue();
+
+        index.update(CAR, slot, false);
+        assertThat(index.isBooked(CAR, slot)).isFalse();
+    }
+
+    @Test
+    void coversTheWindowFromTodayToTheHorizon() {
+        assertThat(index.horizon()).isEqualTo(today.plusMinutes(384 * 30));
+        assertThat(index.covers(today)).isTrue();
+        assertThat(index.covers(index.horizon().minusMinutes(30))).isTrue();
+        assertThat(index.covers(index.horizon())).isFalse();
+        assertThat(index.covers(today.minusMinutes(1))).isFalse();
+    }
+
+    @Test
+    void slotsOutsideTheWindowAreNotTracked() {
+        LocalDateTime beyond = index.horizon().plusDays(1);
+
+        index.update(CAR, beyond, true);
+
+        assertThat(index.isBooked(CAR, beyond)).isFalse();
+    }
+
+    @Test
+    void bookedSlotsListsStartsInRangeAcrossWords() {
+        // Slot indexes 20, 70 and 200 sit in three different 64-bit words
+        LocalDateTime first = today.plusMinutes(20 * 30);
+        LocalDateTime second = today.plusMinutes(70 * 30);
+        LocalDateTime third = today.plusMinutes(200 * 30);
+        index.update(CAR, first, true);
+        index.update(CAR, second, true);
+        index.update(CAR, third, true);
+        index.update(OTHER_CAR, second.plusMinutes(30), true);
+
+        assertThat(index.bookedSlots(CAR, today, index.horizon())).containsExactly(first, second, third);
+        assertThat(index.bookedSlots(CAR, first.plusMinutes(30), third)).containsExactly(second);
+        assertThat(index.bookedSlots(CAR, today.minusDays(3), first.plusMinutes(1))).containsExactly(first);
+        assertThat(index.bookedSlots(3L, today, index.horizon())).isEmpty();
+    }
+}
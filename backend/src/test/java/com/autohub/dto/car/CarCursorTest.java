@@ -0,0 +1,66 @@
+package com.autohub.dto.car;
+
+import com.autohub.entity.Car;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CarCursorTest {
+
+    @Test
+    void roundTripsValuesContainingTheSeparator() {
+        CarCursor cursor = new CarCursor("make", Sort.Direction.ASC, "Rolls|Royce", 7L);
+
+        assertThat(CarCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void afterTakesTheSortKeyOfTheRow() {
+        Car car = new Car();
+        car.setId(9L);
+        car.setPrice(new BigDecimal("25000.00"));
+
+        CarCursor cursor = CarCursor.after(car, "price", Sort.Direction.DESC);
+
+        assertThat(cursor).isEqualTo(new CarCursor("price", Sort.Direction.DESC, "25000.00", 9L));
+        assertThat(cursor.matches("price", Sort.Direction.DESC)).isTrue();
+        assertThat(cursor.matches("price", Sort.Direction.ASC)).isFalse();
+        assertThat(CarCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsUnsupportedSortsAndMalformedTokens() {
+        assertThatThrownBy(() -> CarCursor.after(new Car(), "description", Sort.Direction.ASC))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CarCursor.decode(token("price|DESC|9")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CarCursor.decode(token("price|SIDEWAYS|9|1")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsValuesThatDoNotParseAsTheSortKey() {
+        assertThatThrownBy(() -> CarCursor.decode(token("createdAt|ASC|9|yesterday")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> CarCursor.decode(token("price|ASC|9|cheap")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CarCursor.decode(token("year|ASC|9|2020.5")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> CarCursor.decode(token("description|ASC|9|x")))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        assertThat(CarCursor.decode(token("createdAt|ASC|9|2024-05-01T10:15:30Z")).value())
+                .isEqualTo("2024-05-01T10:15:30Z");
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,39 @@
+package com.autohub.dto.testdrive;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TestDriveCursorTest {
+
+    @Test
+    void roundTrips() {
+        TestDriveCursor cursor = new TestDriveCursor(LocalDateTime.of(2026, 5, 1, 10, 30), 42L);
+
+        String token = cursor.encode();
+
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(TestDriveCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void rejectsMalformedTokens() {
+        assertThatThrownBy(() -> TestDriveCursor.decode("!!!"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TestDriveCursor.decode(token("no-separator")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TestDriveCursor.decode(token("yesterday|1")))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> TestDriveCursor.decode(token("2026-05-01T10:30|x")))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,130 @@
+package com.autohub.repository;
+
+import com.autohub.dto.car.CarFilter;
+import com.autohub.entity.AppUser;
+import com.autohub.entity.Car;
+import com.autohub.entity.CarImage;
+import com.autohub.entity.Favorite;
+import com.autohub.entity.FuelType;
+import com.autohub.entity.Role;
+import com.autohub.entity.TransmissionType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Upper bounds on the SQL statements behind the listing endpoints, counted with Hibernate
+ * statistics. Each listing touches every car's images the way the mappers do, so an N+1
+ * on {@code Car.images} or {@code Favorite.car} shows up as a failing bound.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class ListingStatementCountTest {
+
+    private static final int CARS = 30;
+    private static final int FAVORITES = 10;
+    private static final CarFilter NO_FILTER = new CarFilter(null, null, null, null, null, null, null);
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private FavoriteRepository favoriteRepository;
+
+    private Statistics statistics;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        AppUser user = new AppUser();
+        user.setEmail("customer@example.com");
+        user.setPasswordHash("hash");
+        user.setFullName("Customer");
+        user.setRole(Role.CUSTOMER);
+        entityManager.persist(user);
+        userId = user.getId();
+
+        for (int i = 0; i < CARS; i++) {
+            Car car = new Car();
+            car.setMake("Make" + i);
+            car.setModel("Model" + i);
+            car.setYear(2015 + i % 10);
+            car.setPrice(BigDecimal.valueOf(10_000 + i * 500L));
+            car.setTransmission(TransmissionType.AUTOMATIC);
+            car.setFuelType(FuelType.GASOLINE);
+            for (int j = 0; j < 2; j++) {
+                CarImage image = new CarImage();
+                image.setImagePath("car-" + i + "-" + j + ".jpg");
+                car.addImage(image);
+            }
+            entityManager.persist(car);
+            if (i < FAVORITES) {
+                entityManager.persist(new Favorite(user, car));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+    }
+
+    @Test
+    void pagedListingLoadsImagesInOneBatch() {
+        Page<Car> page = carRepository.findAll(CarSpecifications.publicListingSpec(NO_FILTER), PageRequest.of(0, 20));
+        page.forEach(car -> car.getImages().size());
+
+        assertThat(page.getContent()).hasSize(20);
+        // Page select, count, one batch of images for up to 50 cars
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(3);
+    }
+
+    @Test
+    void keysetListingLoadsImagesInOneBatch() {
+        List<Car> cars = carRepository.findKeysetSlice(CarSpecifications.publicListingSpec(NO_FILTER),
+                Sort.by(Sort.Direction.ASC, "id"), 21);
+        cars.forEach(car -> car.getImages().size());
+
+        assertThat(cars).hasSize(21);
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    void unpagedListingFetchesImagesWithCars() {
+        List<Car> cars = carRepository.findAll(CarSpecifications.publicListingSpec(NO_FILTER));
+        cars.forEach(car -> car.getImages().size());
+
+        assertThat(cars).hasSize(CARS);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void favoritesWithDetailsFetchCarsAndImagesTogether() {
+        List<Favorite> favorites = favoriteRepository.findAllWithCarAndImagesByUserId(userId);
+        favorites.forEach(favorite -> favorite.getCar().getImages().size());
+
+        assertThat(favorites).hasSize(FAVORITES);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
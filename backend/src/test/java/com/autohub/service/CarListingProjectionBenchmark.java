@@ -0,0 +1,134 @@
+package com.autohub.service;
+
+import com.autohub.catalog.CarColumnarSnapshot;
+import com.autohub.catalog.CarFullTextIndex;
+import com.autohub.catalog.CarTrigramIndex;
+import com.autohub.dto.car.CarFilter;
+import com.autohub.dto.car.CarResponse;
+import com.autohub.entity.TransmissionType;
+import com.autohub.mapper.CarMapper;
+import com.autohub.support.Benchmarks;
+import com.autohub.support.CarSeeder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Public listing pages built from {@code Car} entities against the flat
+ * {@link com.autohub.dto.car.CarListingRow} projections, each mapped to the listing cards
+ * the way {@code PublicCarController} does. Logs latency plus the statements executed and
+ * entities loaded per page, counted with Hibernate statistics, over a synthetic catalog of
+ * 100k cars ({@code -Dbenchmark.cars} to change). Both paths must return the same cards,
+ * and the projection path must not load any entity.
+ */
+@Tag(Benchmarks.TAG)
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({CarService.class, CarTrigramIndex.class, CarFullTextIndex.class, CarColumnarSnapshot.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CarListingProjectionBenchmark {
+
+    private static final int WARMUPS = 20;
+    private static final int RUNS = 100;
+    private static final CarFilter NO_FILTER = new CarFilter(null, null, null, null, null, null, null);
+
+    @MockBean
+    private FileService fileService;
+
+    @Autowired
+    private CarService carService;
+
+    @Autowired
+    private CarTrigramIndex trigramIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final CarMapper carMapper = Mappers.getMapper(CarMapper.class);
+    private Statistics statistics;
+    private int cars;
+
+    @BeforeEach
+    void setUp() {
+        int[] sizes = Benchmarks.catalogSizes(100_000);
+        cars = sizes[sizes.length - 1];
+        CarSeeder.seed(jdbcTemplate, 0, cars);
+        trigramIndex.rebuild();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM cars");
+    }
+
+    @Test
+    void entitiesAgainstProjections() {
+        compare("first page", NO_FILTER, PageRequest.of(0, 12, Sort.by("id")));
+        compare("48 per page by price", NO_FILTER, PageRequest.of(0, 48, Sort.by(Sort.Direction.DESC, "price")));
+        compare("page 500", NO_FILTER, PageRequest.of(500, 12, Sort.by("id")));
+        compare("filtered", new CarFilter(null, null, 2018, TransmissionType.AUTOMATIC, null,
+                BigDecimal.valueOf(10_000), BigDecimal.valueOf(60_000)), PageRequest.of(0, 12, Sort.by("id")));
+        compare("make fragment", new CarFilter("toy", null, null, null, null, null, null),
+                PageRequest.of(0, 12, Sort.by("id")));
+    }
+
+    private void compare(String name, CarFilter filter, Pageable pageable) {
+        Supplier<List<CarResponse>> entities = () -> carMapper.toListingResponsesFromCars(
+                carService.listCarsForPublicPaged(filter, pageable).getContent());
+        Supplier<List<CarResponse>> projections = () -> carMapper.toListingResponses(
+                carService.listCarSummariesForPublicPaged(filter, pageable).getContent());
+
+        Counts entityCounts = count(entities);
+        Counts projectionCounts = count(projections);
+        assertThat(projections.get()).isEqualTo(entities.get());
+        assertThat(projectionCounts.entities()).isZero();
+        assertThat(projectionCounts.statements()).isLessThanOrEqualTo(entityCounts.statements());
+
+        String label = "listing " + cars + " cars, " + name;
+        Benchmarks.report(label + ", entities", Benchmarks.time(WARMUPS, RUNS, entities), entityCounts.toString());
+        Benchmarks.report(label + ", projections", Benchmarks.time(WARMUPS, RUNS, projections),
+                projectionCounts.toString());
+    }
+
+    private Counts count(Supplier<?> listing) {
+        statistics.clear();
+        listing.get();
+        return new Counts(statistics.getPrepareStatementCount(), statistics.getEntityLoadCount());
+    }
+
+    private record Counts(long statements, long entities) {
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "statements=%d entities=%d", statements, entities);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.autohub.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HashedTimingWheelTest {
+
+    private static final long TICK = 10;
+    private static final int BUCKETS = 8;
+
+    private final HashedTimingWheel<String, String> wheel = new HashedTimingWheel<>(TICK, BUCKETS, 0);
+
+    @Test
+    void firesOnFirstTickAtOrAfterDeadline() {
+        wheel.schedule("a", "A", 25);
+
+        assertThat(wheel.advance(29)).isEmpty();
+        assertThat(wheel.advance(30)).containsExactly("A");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void pastDeadlineFiresOnNextTick() {
+        wheel.advance(100);
+        wheel.schedule("a", "A", 5);
+
+        assertThat(wheel.advance(109)).isEmpty();
+        assertThat(wheel.advance(110)).containsExactly("A");
+    }
+
+    @Test
+    void entryMoreThanOneRotationAheadWaitsForItsTick() {
+        // Tick 10 shares a bucket with tick 2
+        wheel.schedule("far", "FAR", TICK * BUCKETS + 15);
+
+        assertThat(wheel.advance(30)).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(100)).containsExactly("FAR");
+    }
+
+    @Test
+    void cancelledEntryNeverFires() {
+        wheel.schedule("a", "A", 20);
+        wheel.cancel("a");
+
+        assertThat(wheel.size()).isZero();
+        assertThat(wheel.advance(1_000)).isEmpty();
+    }
+
+    @Test
+    void schedulingAKeyAgainReplacesIt() {
+        wheel.schedule("a", "first", 20);
+        wheel.schedule("a", "second", 50);
+
+        assertThat(wheel.size()).isEqualTo(1);
+        assertThat(wheel.advance(20)).isEmpty();
+        assertThat(wheel.advance(50)).containsExactly("second");
+    }
+
+    @Test
+    void stalledCallerCatchesUpOnEverythingDue() {
+        wheel.schedule("a", "A", 20);
+        wheel.schedule("b", "B", 500);
+        wheel.schedule("c", "C", 20_000);
+
+        assertThat(wheel.advance(10_000)).containsExactlyInAnyOrder("A", "B");
+        assertThat(wheel.size()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,176 @@
+package com.autohub.service;
+
+import com.autohub.catalog.TestDriveSlotIndex;
+import com.autohub.dto.testdrive.TestDriveRequest;
+import com.autohub.entity.AppUser;
+import com.autohub.entity.Car;
+import com.autohub.entity.FuelType;
+import com.autohub.entity.Role;
+import com.autohub.entity.TestDrive;
+import com.autohub.entity.TransmissionType;
+import com.autohub.event.TestDriveSlotChangedListener;
+import com.autohub.repository.AppUserRepository;
+import com.autohub.repository.CarRepository;
+import com.autohub.repository.TestDriveRepository;
+import com.autohub.support.Benchmarks;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 500 threads booking random slots of 10 cars at once through
+ * {@link TestDriveService#bookTestDrive}. There are fewer slots than attempts, so most
+ * attempts conflict. Logs throughput, latency percentiles and the outcome counts. Fails
+ * if any slot ends up with two active bookings or an attempt fails with anything but a
+ * {@link BookingConflictException}.
+ */
+@Tag(Benchmarks.TAG)
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TestDriveService.class, TestDriveSlotIndex.class, CarBookingLocks.class, TestDriveSlotChangedListener.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TestDriveBookingBenchmark {
+
+    private static final int THREADS = 500;
+    private static final int ATTEMPTS_PER_THREAD = 4;
+    private static final int CARS = 10;
+    private static final int SLOTS_PER_CAR = 50;
+    private static final String EMAIL = "load@example.com";
+
+    @MockBean
+    private TestDriveNotificationService notificationService;
+
+    @MockBean
+    private TestDriveReminderScheduler reminderScheduler;
+
+    @Autowired
+    private TestDriveService testDriveService;
+
+    @Autowired
+    private TestDriveRepository testDriveRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    private final List<Long> carIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        AppUser user = new AppUser();
+        user.setEmail(EMAIL);
+        user.setPasswordHash("hash");
+        user.setFullName("Load");
+        user.setRole(Role.CUSTOMER);
+        appUserRepository.save(user);
+
+        for (int i = 0; i < CARS; i++) {
+            Car car = new Car();
+            car.setMake("Make" + i);
+            car.setModel("Model" + i);
+            car.setYear(2022);
+            car.setPrice(BigDecimal.valueOf(20_000 + i * 1_000L));
+            car.setTransmission(TransmissionType.AUTOMATIC);
+            car.setFuelType(FuelType.GASOLINE);
+            carIds.add(carRepository.save(car).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        testDriveRepository.deleteAll();
+        carRepository.deleteAll();
+        appUserRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentBookingLoad() throws Exception {
+        LocalDateTime firstSlot = LocalDate.now().plusDays(1).atTime(8, 0);
+        int attempts = THREADS * ATTEMPTS_PER_THREAD;
+        long[] latencies = new long[attempts];
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        long elapsed;
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int a = 0; a < ATTEMPTS_PER_THREAD; a++) {
+                        TestDriveRequest request = new TestDriveRequest(carIds.get(random.nextInt(CARS)),
+                                firstSlot.plusMinutes(30L * random.nextInt(SLOTS_PER_CAR)));
+                        long begin = System.nanoTime();
+                        try {
+                            testDriveService.bookTestDrive(request, EMAIL);
+                            booked.incrementAndGet();
+                        } catch (BookingConflictException e) {
+                            conflicts.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            errors.incrementAndGet();
+                        }
+                        latencies[thread * ATTEMPTS_PER_THREAD + a] = System.nanoTime() - begin;
+                    }
+                });
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            executor.shutdown();
+            assertThat(executor.awaitTermination(5, TimeUnit.MINUTES)).isTrue();
+            elapsed = System.nanoTime() - begin;
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<TestDrive> rows = testDriveRepository.findAll();
+        Map<String, Long> perSlot = rows.stream()
+                .collect(Collectors.groupingBy(row -> row.getCar().getId() + "@" + row.getAppointmentDate(),
+                        Collectors.counting()));
+        long doubleBookings = perSlot.values().stream().filter(count -> count > 1).count();
+        double throughput = attempts / (elapsed / 1_000_000_000.0);
+
+        Benchmarks.report("booking " + THREADS + " threads / " + CARS + " cars", latencies,
+                String.format(Locale.ROOT, "throughput=%.0f/s booked=%d conflicts=%d errors=%d double-booked=%d",
+                        throughput, booked.get(), conflicts.get(), errors.get(), doubleBookings));
+
+        assertThat(doubleBookings).isZero();
+        assertThat(errors.get()).isZero();
+        assertThat(rows).hasSize(booked.get());
+        assertThat(booked.get() + conflicts.get()).isEqualTo(attempts);
+    }
+}
@@ -0,0 +1,134 @@
+package com.autohub.service;
+
+import com.autohub.catalog.TestDriveSlotIndex;
+import com.autohub.dto.testdrive.TestDriveRequest;
+import com.autohub.entity.AppUser;
+import com.autohub.entity.Car;
+import com.autohub.entity.FuelType;
+import com.autohub.entity.Role;
+import com.autohub.entity.TestDrive;
+import com.autohub.entity.TransmissionType;
+import com.autohub.event.TestDriveSlotChangedListener;
+import com.autohub.repository.AppUserRepository;
+import com.autohub.repository.CarRepository;
+import com.autohub.repository.TestDriveRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bookings racing for one car and slot through {@link TestDriveService#bookTestDrive}.
+ * Runs outside a test transaction so every booking commits on its own thread and the
+ * slot index is updated after commit, as in production; rows are removed afterwards.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TestDriveService.class, TestDriveSlotIndex.class, CarBookingLocks.class, TestDriveSlotChangedListener.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TestDriveServiceConcurrencyTest {
+
+    private static final int THREADS = 8;
+    private static final String EMAIL = "racer@example.com";
+
+    @MockBean
+    private TestDriveNotificationService notificationService;
+
+    @MockBean
+    private TestDriveReminderScheduler reminderScheduler;
+
+    @Autowired
+    private TestDriveService testDriveService;
+
+    @Autowired
+    private TestDriveRepository testDriveRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    private Long carId;
+
+    @BeforeEach
+    void setUp() {
+        AppUser user = new AppUser();
+        user.setEmail(EMAIL);
+        user.setPasswordHash("hash");
+        user.setFullName("Racer");
+        user.setRole(Role.CUSTOMER);
+        appUserRepository.save(user);
+
+        Car car = new Car();
+        car.setMake("Mazda");
+        car.setModel("MX-5");
+        car.setYear(2022);
+        car.setPrice(BigDecimal.valueOf(28_000));
+        car.setTransmission(TransmissionType.MANUAL);
+        car.setFuelType(FuelType.GASOLINE);
+        carId = carRepository.save(car).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testDriveRepository.deleteAll();
+        carRepository.deleteAll();
+        appUserRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentBookingsOfOneSlotLeaveExactlyOneWinner() throws Exception {
+        TestDriveRequest request = new TestDriveRequest(carId, LocalDate.now().plusDays(2).atTime(10, 0));
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<TestDrive>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return testDriveService.bookTestDrive(request, EMAIL);
+                }));
+            }
+            start.countDown();
+
+            int booked = 0;
+            int conflicts = 0;
+            for (Future<TestDrive> result : results) {
+                try {
+                    result.get(30, TimeUnit.SECONDS);
+                    booked++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(BookingConflictException.class);
+                    conflicts++;
+                }
+            }
+
+            assertThat(booked).isEqualTo(1);
+            assertThat(conflicts).isEqualTo(THREADS - 1);
+            assertThat(testDriveRepository.count()).isEqualTo(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
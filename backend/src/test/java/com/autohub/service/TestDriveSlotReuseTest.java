@@ -0,0 +1,104 @@
+package com.autohub.service;
+
+import com.autohub.catalog.TestDriveSlotIndex;
+import com.autohub.dto.testdrive.TestDriveRequest;
+import com.autohub.entity.AppUser;
+import com.autohub.entity.Car;
+import com.autohub.entity.FuelType;
+import com.autohub.entity.Role;
+import com.autohub.entity.TestDrive;
+import com.autohub.entity.TestDriveStatus;
+import com.autohub.entity.TransmissionType;
+import com.autohub.event.TestDriveSlotChangedListener;
+import com.autohub.repository.AppUserRepository;
+import com.autohub.repository.CarRepository;
+import com.autohub.repository.TestDriveRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A rejected booking gives its slot back: the availability bitmap frees it and the
+ * car/slot unique key only covers active bookings. Runs outside a test transaction so
+ * each step commits and the slot index sees it, as in production; rows are removed
+ * afterwards.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({TestDriveService.class, TestDriveSlotIndex.class, CarBookingLocks.class, TestDriveSlotChangedListener.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class TestDriveSlotReuseTest {
+
+    private static final String EMAIL = "customer@example.com";
+
+    @MockBean
+    private TestDriveNotificationService notificationService;
+
+    @MockBean
+    private TestDriveReminderScheduler reminderScheduler;
+
+    @Autowired
+    private TestDriveService testDriveService;
+
+    @Autowired
+    private TestDriveRepository testDriveRepository;
+
+    @Autowired
+    private CarRepository carRepository;
+
+    @Autowired
+    private AppUserRepository appUserRepository;
+
+    private Long carId;
+
+    @BeforeEach
+    void setUp() {
+        AppUser user = new AppUser();
+        user.setEmail(EMAIL);
+        user.setPasswordHash("hash");
+        user.setFullName("Customer");
+        user.setRole(Role.CUSTOMER);
+        appUserRepository.save(user);
+
+        Car car = new Car();
+        car.setMake("Mazda");
+        car.setModel("MX-5");
+        car.setYear(2022);
+        car.setPrice(BigDecimal.valueOf(28_000));
+        car.setTransmission(TransmissionType.MANUAL);
+        car.setFuelType(FuelType.GASOLINE);
+        carId = carRepository.save(car).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        testDriveRepository.deleteAll();
+        carRepository.deleteAll();
+        appUserRepository.deleteAll();
+    }
+
+    @Test
+    void rejectedSlotCanBeBookedAgain() {
+        LocalDateTime slot = LocalDate.now().plusDays(3).atTime(14, 30);
+        TestDrive first = testDriveService.bookTestDrive(new TestDriveRequest(carId, slot), EMAIL);
+        testDriveService.updateStatus(first.getId(), TestDriveStatus.REJECTED);
+
+        TestDrive second = testDriveService.bookTestDrive(new TestDriveRequest(carId, slot), EMAIL);
+
+        assertThat(second.getId()).isNotEqualTo(first.getId());
+        assertThat(testDriveRepository.count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,82 @@
+package com.autohub.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Timing helpers for the {@code @Tag("benchmark")} tests, which run with
+ * {@code mvn -Pbenchmark test} and log their figures under this class's logger. Numbers
+ * come from H2 in memory, so they compare code paths against each other, not against
+ * production MySQL.
+ */
+public final class Benchmarks {
+
+    public static final String TAG = "benchmark";
+
+    private static final Logger logger = LoggerFactory.getLogger(Benchmarks.class);
+
+    private Benchmarks() {
+    }
+
+    /**
+     * Runs {@code operation} {@code warmups} times untimed, then {@code runs} times and
+     * returns the duration of each timed run in nanoseconds.
+     */
+    public static long[] time(int warmups, int runs, Supplier<?> operation) {
+        for (int i = 0; i < warmups; i++) {
+            operation.get();
+        }
+        long[] nanos = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long start = System.nanoTime();
+            operation.get();
+            nanos[i] = System.nanoTime() - start;
+        }
+        return nanos;
+    }
+
+    /**
+     * The {@code percentile} (0-100) of {@code nanos} by nearest rank, in milliseconds.
+     */
+    public static double percentileMillis(long[] nanos, double percentile) {
+        if (nanos.length == 0) {
+            return 0;
+        }
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(0, rank - 1)] / 1_000_000.0;
+    }
+
+    /**
+     * Catalog sizes to run at: {@code -Dbenchmark.cars} as a comma-separated list, smallest
+     * first, or {@code defaults} when it is not set.
+     */
+    public static int[] catalogSizes(int... defaults) {
+        String property = System.getProperty("benchmark.cars");
+        if (property == null || property.isBlank()) {
+            return defaults;
+        }
+        return Arrays.stream(property.split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * Logs median and p99 of {@code nanos} under {@code name}.
+     */
+    public static void report(String name, long[] nanos) {
+        report(name, nanos, "");
+    }
+
+    public static void report(String name, long[] nanos, String extra) {
+        logger.info(String.format(Locale.ROOT, "%-45s runs=%-5d p50=%9.3f ms  p99=%9.3f ms  %s",
+                name, nanos.length, percentileMillis(nanos, 50), percentileMillis(nanos, 99), extra));
+    }
+}
@@ -0,0 +1,70 @@
+package com.autohub.support;
+
+import com.autohub.entity.CarStatus;
+import com.autohub.entity.FuelType;
+import com.autohub.entity.TransmissionType;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fills the {@code cars} table with a synthetic catalog for the benchmarks. Row {@code n}
+ * always gets the same values, so a catalog can be grown from one size to the next and
+ * every run sees the same data. Makes and models come from a small real-world list; one
+ * car in twenty is sold and so not publicly listed.
+ */
+public final class CarSeeder {
+
+    private static final String INSERT_SQL = "INSERT INTO cars "
+            + "(make, model, year, price, transmission, fuel_type, status, is_deleted, description, image_count, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, false, ?, 0, ?)";
+    private static final int BATCH_SIZE = 5_000;
+    private static final String[][] MODELS = {
+            {"Toyota", "Corolla", "Camry", "RAV4", "Prius"},
+            {"Honda", "Civic", "Accord", "CR-V", "Jazz"},
+            {"Ford", "Focus", "Fiesta", "Mustang", "Ranger"},
+            {"BMW", "3 Series", "5 Series", "X3", "X5"},
+            {"Mercedes-Benz", "C-Class", "E-Class", "GLC", "A-Class"},
+            {"Volkswagen", "Golf", "Polo", "Passat", "Tiguan"},
+            {"Audi", "A3", "A4", "Q5", "Q7"},
+            {"Mazda", "Mazda3", "CX-5", "MX-5", "CX-30"},
+            {"Nissan", "Qashqai", "Leaf", "Micra", "X-Trail"},
+            {"Hyundai", "i30", "Tucson", "Kona", "Ioniq"},
+            {"Kia", "Ceed", "Sportage", "Niro", "Picanto"},
+            {"Volvo", "XC40", "XC60", "V60", "S90"}
+    };
+
+    private CarSeeder() {
+    }
+
+    /**
+     * Inserts rows {@code from} (inclusive) to {@code to} (exclusive).
+     */
+    public static void seed(JdbcTemplate jdbcTemplate, int from, int to) {
+        TransmissionType[] transmissions = TransmissionType.values();
+        FuelType[] fuelTypes = FuelType.values();
+        Instant start = Instant.now();
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        for (int n = from; n < to; n++) {
+            String[] make = MODELS[n % MODELS.length];
+            batch.add(new Object[]{
+                    make[0],
+                    make[1 + (n / MODELS.length) % (make.length - 1)],
+                    1995 + n % 30,
+                    BigDecimal.valueOf(2_000_00L + (n * 7_919L) % 150_000_00L, 2),
+                    transmissions[n % transmissions.length].name(),
+                    fuelTypes[(n / 7) % fuelTypes.length].name(),
+                    (n % 20 == 0 ? CarStatus.SOLD : CarStatus.AVAILABLE).name(),
+                    "Synthetic car " + n,
+                    Timestamp.from(start.minusSeconds(n))});
+            if (batch.size() == BATCH_SIZE || n == to - 1) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+    }
+}
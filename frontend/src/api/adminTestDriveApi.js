@@ -1,8 +1,15 @@
 import apiClient from './axiosConfig'
 
 export const adminTestDriveApi = {
-  getAllTestDrives: async () => {
-    const response = await apiClient.get('/admin/test-drives')
+  getTestDriveQueue: async ({ status, from, to, carId, cursor, size = 50 } = {}) => {
+    const response = await apiClient.get('/admin/test-drives', {
+      params: { status, from, to, carId, cursor, size }
+    })
+    return response.data
+  },
+
+  getActiveCount: async () => {
+    const response = await apiClient.get('/admin/test-drives/active-count')
     return response.data
   },
 
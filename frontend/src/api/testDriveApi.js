@@ -9,8 +9,10 @@ export const testDriveApi = {
     return response.data
   },
 
-  getMyBookings: async () => {
-    const response = await apiClient.get('/test-drives/my-bookings')
+  getMyBookings: async ({ scope = 'ALL', page = 0, size = 10 } = {}) => {
+    const response = await apiClient.get('/test-drives/my-bookings', {
+      params: { scope, page, size }
+    })
     return response.data
   },
 
@@ -8,7 +8,9 @@ import {
   message,
   Modal,
   Input,
-  Select
+  InputNumber,
+  Select,
+  DatePicker
 } from 'antd'
 import {
   PlusOutlined,
@@ -36,6 +38,9 @@ export default function AdminDashboard() {
   const [activeTab, setActiveTab] = useState('inventory')
   const [cars, setCars] = useState([])
   const [testDrives, setTestDrives] = useState([])
+  const [testDrivesCursor, setTestDrivesCursor] = useState(null)
+  const [testDriveFilters, setTestDriveFilters] = useState({ status: undefined, range: null, carId: null })
+  const [activeBookings, setActiveBookings] = useState(0)
   const [loading, setLoading] = useState(false)
   const [drawerOpen, setDrawerOpen] = useState(false)
   const [selectedCar, setSelectedCar] = useState(null)
@@ -44,14 +49,22 @@ export default function AdminDashboard() {
   const [selectedTestDrive, setSelectedTestDrive] = useState(null)
   const [rejectReason, setRejectReason] = useState('')
 
+  useEffect(() => {
+    fetchActiveBookings()
+  }, [])
+
   useEffect(() => {
     if (activeTab === 'inventory') {
       fetchCars()
-    } else if (activeTab === 'test-drives') {
-      fetchTestDrives()
     }
   }, [activeTab])
 
+  useEffect(() => {
+    if (activeTab === 'test-drives') {
+      fetchTestDrives()
+    }
+  }, [activeTab, testDriveFilters])
+
   const fetchCars = async () => {
     setLoading(true)
     try {
@@ -66,12 +79,33 @@ export default function AdminDashboard() {
     }
   }
 
-  const fetchTestDrives = async () => {
+  // Counted on the server: the loaded queue pages only hold the newest bookings
+  const fetchActiveBookings = async () => {
+    try {
+      const response = await adminTestDriveApi.getActiveCount()
+      if (response.success) {
+        setActiveBookings(response.data)
+      }
+    } catch (error) {
+      message.error('Failed to load booking stats')
+    }
+  }
+
+  // Without a cursor the queue reloads from the newest booking; with one the next page is appended
+  const fetchTestDrives = async (cursor = null) => {
     setLoading(true)
     try {
-      const response = await adminTestDriveApi.getAllTestDrives()
+      const { status, range, carId } = testDriveFilters
+      const response = await adminTestDriveApi.getTestDriveQueue({
+        status,
+        from: range?.[0]?.format('YYYY-MM-DD'),
+        to: range?.[1]?.format('YYYY-MM-DD'),
+        carId: carId ?? undefined,
+        cursor
+      })
       if (response.success) {
-        setTestDrives(response.data)
+        setTestDrives(cursor ? [...testDrives, ...response.data.content] : response.data.content)
+        setTestDrivesCursor(response.data.nextCursor)
       }
     } catch (error) {
       message.error('Failed to load test drives')
@@ -130,6 +164,7 @@ export default function AdminDashboard() {
       await adminTestDriveApi.updateStatus(id, 'APPROVED')
       message.success('Test drive approved - Notification sent to customer')
       fetchTestDrives()
+      fetchActiveBookings()
     } catch (error) {
       message.error('Failed to approve test drive')
     }
@@ -142,6 +177,7 @@ export default function AdminDashboard() {
         .then(() => {
           message.success('Test drive rejected')
           fetchTestDrives()
+          fetchActiveBookings()
           setRejectModalOpen(false)
           setRejectReason('')
           setSelectedTestDrive(null)
@@ -155,7 +191,6 @@ export default function AdminDashboard() {
   // Calculate stats
   const totalCars = cars.filter(car => !car.deleted).length
   const availableCars = cars.filter(car => car.status === 'AVAILABLE' && !car.deleted).length
-  const activeBookings = testDrives.filter(td => td.status === 'PENDING' || td.status === 'APPROVED').length
   const totalRevenue = cars
     .filter(car => car.status === 'SOLD')
     .reduce((sum, car) => sum + car.price, 0)
@@ -429,6 +464,31 @@ export default function AdminDashboard() {
               Automated customer emails are active for all status changes.
             </span>
           </div>
+          <div className="mb-6 flex flex-wrap items-center gap-3">
+            <Select
+              placeholder="All statuses"
+              allowClear
+              value={testDriveFilters.status}
+              onChange={(status) => setTestDriveFilters({ ...testDriveFilters, status })}
+              className="w-40"
+            >
+              <Select.Option value="PENDING">Pending</Select.Option>
+              <Select.Option value="APPROVED">Approved</Select.Option>
+              <Select.Option value="REJECTED">Rejected</Select.Option>
+              <Select.Option value="COMPLETED">Completed</Select.Option>
+            </Select>
+            <DatePicker.RangePicker
+              value={testDriveFilters.range}
+              onChange={(range) => setTestDriveFilters({ ...testDriveFilters, range })}
+            />
+            <InputNumber
+              placeholder="Car ID"
+              min={1}
+              value={testDriveFilters.carId}
+              onChange={(carId) => setTestDriveFilters({ ...testDriveFilters, carId })}
+              className="w-32"
+            />
+          </div>
           <div className="bg-white rounded-lg border border-slate-200 overflow-hidden">
             <Table
               columns={testDriveColumns}
@@ -438,10 +498,17 @@ export default function AdminDashboard() {
               pagination={{ 
                 pageSize: 10,
                 showSizeChanger: true,
-                showTotal: (total) => `Total ${total} bookings`
+                showTotal: (total) => `${total} bookings loaded`
               }}
               className="admin-table"
             />
+            {testDrivesCursor && (
+              <div className="py-4 text-center border-t border-slate-200">
+                <Button onClick={() => fetchTestDrives(testDrivesCursor)} loading={loading}>
+                  Load older bookings
+                </Button>
+              </div>
+            )}
           </div>
         </div>
       )
@@ -11,17 +11,19 @@ export default function MyBookingsPage() {
   const [bookings, setBookings] = useState([])
   const [loading, setLoading] = useState(true)
   const [cancelling, setCancelling] = useState(null)
+  const [pagination, setPagination] = useState({ current: 1, pageSize: 10, total: 0 })
 
   useEffect(() => {
     fetchBookings()
   }, [])
 
-  const fetchBookings = async () => {
+  const fetchBookings = async (page = pagination.current, pageSize = pagination.pageSize) => {
     setLoading(true)
     try {
-      const response = await testDriveApi.getMyBookings()
+      const response = await testDriveApi.getMyBookings({ page: page - 1, size: pageSize })
       if (response.success && response.data) {
-        setBookings(response.data)
+        setBookings(response.data.content)
+        setPagination({ current: page, pageSize, total: response.data.totalElements })
       }
     } catch (error) {
       message.error('Failed to load bookings')
@@ -132,7 +134,8 @@ export default function MyBookingsPage() {
           columns={columns}
           dataSource={bookings}
           rowKey="id"
-          pagination={{ pageSize: 10 }}
+          pagination={pagination}
+          onChange={(next) => fetchBookings(next.current, next.pageSize)}
           locale={{
             emptyText: "You haven't booked any test drives yet"
           }}